@@ -0,0 +1,29 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.util.DatasetGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Seeded participant tables for the benchmarks, so every run measures the same data.
+ */
+final class BenchmarkParticipants {
+
+    private BenchmarkParticipants() {
+    }
+
+    // Realistic intake mix: few leaders, mostly balanced
+    static ParticipantTable table(int size, long seed) {
+        return table(DatasetGenerator.Profile.REALISTIC, size, seed);
+    }
+
+    static ParticipantTable table(DatasetGenerator.Profile profile, int size, long seed) {
+        try {
+            return new DatasetGenerator(profile).setSeed(seed).toTable(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * CSVHandler read and write paths on generated files of 10k to 10M rows. Throughput is files (or
+ * appended rows) per second; the "bytes" counter reports bytes/second, and running through main()
+ * (or with -prof gc) adds the allocation rate. The 10M row cases need a large heap.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class CSVHandlerBenchmark {
+
+    private static final int TEAM_SIZE = 5;
+
+    @State(Scope.Benchmark)
+    public static class Dataset {
+        @Param({"10000", "100000", "1000000", "10000000"})
+        int rows;
+
+        Path dir;
+        String participantsFile;
+        String teamsFile;
+        long participantsBytes;
+        long teamsBytes;
+        List<Participant> participants;
+        List<Team> teams;
+        CSVHandler csvHandler;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("csv-bench");
+            participantsFile = dir.resolve("participants.csv").toString();
+            teamsFile = dir.resolve("formedTeams.csv").toString();
+
+            ParticipantTable table = BenchmarkParticipants.table(rows, 42);
+            writeParticipants(table, participantsFile);
+            writeTeams(table, teamsFile);
+            participantsBytes = new File(participantsFile).length();
+            teamsBytes = new File(teamsFile).length();
+
+            participants = table.asList();
+            teams = new ArrayList<>(rows / TEAM_SIZE + 1);
+            for (int start = 0; start < rows; start += TEAM_SIZE) {
+                Team team = new Team("Team-" + (start / TEAM_SIZE + 1), TEAM_SIZE);
+                for (int row = start; row < Math.min(rows, start + TEAM_SIZE); row++) {
+                    team.addMember(table.participant(row));
+                }
+                teams.add(team.freeze());
+            }
+
+            csvHandler = new CSVHandler(dir.resolve("saved.csv").toString());
+            csvHandler.setReporter(ProgressReporter.quiet());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteAll(dir);
+        }
+    }
+
+    // Bytes moved per operation; JMH reports OPERATIONS counters as a rate (bytes/second here)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class AppendTarget {
+        Path dir;
+        CSVHandler csvHandler;
+        Participant participant;
+        long rowBytes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("csv-append-bench");
+            csvHandler = new CSVHandler(dir.resolve("participants.csv").toString());
+            csvHandler.setReporter(ProgressReporter.quiet());
+            participant = BenchmarkParticipants.table(1, 7).participant(0);
+            rowBytes = (participant.getId() + "," + participant.getName() + "," + participant.getEmail() + ","
+                    + participant.getPreferredSport() + "," + participant.getSkillLevel() + ","
+                    + participant.getPreferredRole() + "," + participant.getPersonalityScore() + ","
+                    + participant.getPersonalityType() + "\n").length();
+        }
+
+        // keep the file from growing without bound across iterations
+        @Setup(Level.Iteration)
+        public void truncate() throws IOException {
+            Files.deleteIfExists(dir.resolve("participants.csv"));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteAll(dir);
+        }
+    }
+
+    @Benchmark
+    public List<Participant> loadParticipants(Dataset files, Bytes counter) {
+        counter.bytes += files.participantsBytes;
+        return files.csvHandler.loadParticipants(files.participantsFile);
+    }
+
+    @Benchmark
+    public List<Team> loadFormedTeams(Dataset files, Bytes counter) {
+        counter.bytes += files.teamsBytes;
+        return files.csvHandler.loadFormedTeams(files.teamsFile);
+    }
+
+    @Benchmark
+    public void saveAllParticipants(Dataset files, Bytes counter) {
+        files.csvHandler.saveAllParticipants(files.participants);
+        counter.bytes += new File(files.dir.resolve("saved.csv").toString()).length();
+    }
+
+    @Benchmark
+    public void saveFormedTeams(Dataset files, Bytes counter) {
+        String out = files.dir.resolve("savedTeams.csv").toString();
+        files.csvHandler.saveFormedTeams(files.teams, out);
+        counter.bytes += new File(out).length();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void appendParticipantConcurrent(AppendTarget target, Bytes counter) {
+        target.csvHandler.appendParticipant(target.participant);
+        counter.bytes += target.rowBytes;
+    }
+
+    // Same suite with the GC profiler attached, for allocation rate per operation
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CSVHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static void writeParticipants(ParticipantTable table, String file) throws IOException {
+        try (BufferedWriter w = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            w.write("id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType\n");
+            for (int row = 0; row < table.size(); row++) {
+                w.write(table.id(row) + "," + table.name(row) + "," + table.email(row) + "," + table.sport(row)
+                        + "," + table.skill(row) + "," + table.role(row) + "," + table.score(row)
+                        + "," + table.type(row) + "\n");
+            }
+        }
+    }
+
+    private static void writeTeams(ParticipantTable table, String file) throws IOException {
+        try (BufferedWriter w = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            w.write("TeamID,Name,Email,Sport,Skill,Role,PersonalityScore,PersonalityType\n");
+            for (int row = 0; row < table.size(); row++) {
+                w.write("Team-" + (row / TEAM_SIZE + 1) + "," + table.name(row) + "," + table.email(row) + ","
+                        + table.sport(row) + "," + table.skill(row) + "," + table.role(row) + ","
+                        + table.score(row) + "," + table.type(row) + "\n");
+            }
+        }
+    }
+
+    private static void deleteAll(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.seniru.teambuilder.service;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Performance regression gate run by the perf-gate profile. Runs a fixed set of benchmarks through
+ * the JMH Runner API (several forks, so one unlucky JVM does not decide the result) and compares
+ * them with the committed baseline. The build fails when a score's whole error interval is worse
+ * than the baseline by more than perf.tolerance (fraction, default 0.15), or allocation per
+ * operation grew by more than perf.allocTolerance (default 0.10). A score whose interval straddles
+ * that limit is reported as inconclusive. -Dperf.advisory=true only reports regressions.
+ * -Dperf.update=true rewrites the baseline from this run instead. Baselines are machine-specific;
+ * refresh them on the machine that runs the gate.
+ */
+public final class PerfGate {
+
+    // One gated measurement: a baseline key, the benchmark method and its fixed parameters
+    private static final class Check {
+        final String key;
+        final String benchmark;
+        final String[] params;
+
+        Check(String key, String benchmark, String... params) {
+            this.key = key;
+            this.benchmark = benchmark;
+            this.params = params;
+        }
+    }
+
+    private static final List<Check> CHECKS = List.of(
+            new Check("formation.10k", TeamBuilderBenchmark.class.getName() + ".buildTeamsWithConcurrency",
+                    "participants", "10000", "teamSize", "4", "threads", "4", "mode", "SHARED_POOLS"),
+            new Check("csvLoad.1M", CSVHandlerBenchmark.class.getName() + ".loadParticipants",
+                    "rows", "1000000")
+    );
+
+    private static final String ALLOC = "gc.alloc.rate.norm";
+    private static final int FORKS = 3;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 8;
+
+    private PerfGate() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Path baselineFile = Path.of(System.getProperty("perf.baseline", "perf/baseline.properties"));
+        double tolerance = Double.parseDouble(System.getProperty("perf.tolerance", "0.15"));
+        double allocTolerance = Double.parseDouble(System.getProperty("perf.allocTolerance", "0.10"));
+        boolean update = Boolean.getBoolean("perf.update");
+        boolean enforce = !Boolean.getBoolean("perf.advisory");
+
+        Properties baseline = new Properties();
+        if (Files.exists(baselineFile)) {
+            try (Reader r = Files.newBufferedReader(baselineFile)) {
+                baseline.load(r);
+            }
+        } else if (!update) {
+            System.err.println("❌ No baseline at " + baselineFile + "; run once with -Dperf.update=true");
+            System.exit(1);
+        }
+
+        Properties current = new Properties();
+        List<String> failures = new ArrayList<>();
+        List<String> inconclusive = new ArrayList<>();
+        for (Check check : CHECKS) {
+            RunResult result = run(check);
+            Result<?> primary = result.getPrimaryResult();
+            Mode mode = result.getParams().getMode();
+            double score = primary.getScore();
+            Result<?> allocResult = result.getSecondaryResults().get(ALLOC);
+            double alloc = allocResult == null ? Double.NaN : allocResult.getScore();
+
+            current.setProperty(check.key + ".score", Double.toString(score));
+            current.setProperty(check.key + ".unit", primary.getScoreUnit());
+            current.setProperty(check.key + ".mode", mode.shortLabel());
+            if (!Double.isNaN(alloc)) current.setProperty(check.key + ".alloc", Double.toString(alloc));
+
+            if (update) continue;
+            String base = baseline.getProperty(check.key + ".score");
+            if (base == null) {
+                failures.add(check.key + ": missing from baseline");
+                continue;
+            }
+            double baseScore = Double.parseDouble(base);
+            // throughput must not fall; average time must not rise
+            boolean higherIsBetter = mode == Mode.Throughput;
+            double change = higherIsBetter ? (baseScore - score) / baseScore : (score - baseScore) / baseScore;
+            System.out.printf("📏 %-14s score %12.3f %-8s baseline %12.3f (%+.1f%% %s)%n", check.key, score,
+                    primary.getScoreUnit(), baseScore, change * 100, change > 0 ? "worse" : "better");
+            // Judge the 99.9% interval of the mean against the tolerated limit, not just the mean
+            double error = Double.isNaN(primary.getScoreError()) ? 0 : primary.getScoreError();
+            double limit = higherIsBetter ? baseScore * (1 - tolerance) : baseScore * (1 + tolerance);
+            double best = higherIsBetter ? score + error : score - error;
+            double worst = higherIsBetter ? score - error : score + error;
+            if (higherIsBetter ? best < limit : best > limit) {
+                failures.add(String.format("%s: %.1f%% slower than baseline, ±%.3f (tolerance %.0f%%)",
+                        check.key, change * 100, error, tolerance * 100));
+            } else if (higherIsBetter ? worst < limit : worst > limit) {
+                inconclusive.add(String.format("%s: interval %.3f..%.3f %s straddles the limit %.3f; rerun on a quieter machine",
+                        check.key, score - error, score + error, primary.getScoreUnit(), limit));
+            }
+
+            String baseAlloc = baseline.getProperty(check.key + ".alloc");
+            if (baseAlloc != null && !Double.isNaN(alloc)) {
+                double allocChange = (alloc - Double.parseDouble(baseAlloc)) / Double.parseDouble(baseAlloc);
+                System.out.printf("📏 %-14s alloc %12.0f B/op     baseline %12.0f (%+.1f%%)%n", check.key,
+                        alloc, Double.parseDouble(baseAlloc), allocChange * 100);
+                if (allocChange > allocTolerance) {
+                    failures.add(String.format("%s: allocates %.1f%% more per op (tolerance %.0f%%)",
+                            check.key, allocChange * 100, allocTolerance * 100));
+                }
+            }
+        }
+
+        if (update) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            try (Writer w = Files.newBufferedWriter(baselineFile)) {
+                current.store(w, "PerfGate baseline (machine-specific; refresh with -Dperf.update=true)");
+            }
+            System.out.println("📁 Baseline written to " + baselineFile);
+            return;
+        }
+        inconclusive.forEach(n -> System.err.println("⚠ " + n));
+        if (!failures.isEmpty()) {
+            failures.forEach(f -> System.err.println((enforce ? "❌ " : "⚠ ") + f));
+            if (enforce) System.exit(1);
+            System.err.println("⚠ Advisory run (-Dperf.advisory=true); the build is not failed");
+            return;
+        }
+        System.out.println((inconclusive.isEmpty() ? "✅ Performance within tolerance of " : "✅ No measurable regression against ")
+                + baselineFile);
+    }
+
+    private static RunResult run(Check check) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include("^" + check.benchmark.replace(".", "\\.") + "$")
+                .warmupIterations(WARMUP_ITERATIONS)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(MEASUREMENT_ITERATIONS)
+                .measurementTime(TimeValue.seconds(3))
+                .forks(FORKS)
+                .jvmArgsAppend("-Xms3g", "-Xmx3g")   // fixed heap: no resizing noise in the 1M row load
+                .addProfiler(GCProfiler.class);
+        for (int i = 0; i < check.params.length; i += 2) {
+            options.param(check.params[i], check.params[i + 1]);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+        if (results.size() != 1) {
+            throw new IllegalStateException("Expected one result for " + check.key + " but got " + results.size());
+        }
+        return results.iterator().next();
+    }
+}
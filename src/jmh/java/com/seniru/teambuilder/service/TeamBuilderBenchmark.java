@@ -0,0 +1,67 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.util.ProgressReporter;
+import com.seniru.teambuilder.util.TeamBuilderLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end formation: buildTeamsWithConcurrency over a pre-built table, without the
+ * flexible phase prompt and with console output and the file log switched off, in each
+ * formation mode. The default matrix is kept small; widen it from the command line, e.g.
+ * -p participants=1000000 -p teamSize=4,6 -p threads=1,4,8.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TeamBuilderBenchmark {
+
+    @Param({"10000", "100000"})
+    int participants;
+
+    @Param({"4"})
+    int teamSize;
+
+    @Param({"1", "4"})
+    int threads;
+
+    @Param({"SHARED_POOLS", "PARTITIONED", "STRIPED_POOLS"})
+    TeamBuilder.FormationMode mode;
+
+    private ParticipantTable table;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkParticipants.table(participants, 42);
+        // materialise the Participant views once so every run pays the same toTeam cost
+        table.asList().forEach(p -> { });
+    }
+
+    @Benchmark
+    public List<Team> buildTeamsWithConcurrency() throws Exception {
+        TeamBuilder builder = new TeamBuilder(teamSize);
+        builder.setReporter(ProgressReporter.quiet());
+        builder.setLogger(TeamBuilderLogger.disabled());
+        builder.setFlexiblePhaseDecider(TeamBuilder.FlexiblePhaseDecider.NEVER);
+        builder.setMaxThreads(threads);
+        builder.setFormationMode(mode);
+        return builder.buildTeamsWithConcurrency(table);
+    }
+}
@@ -0,0 +1,135 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.util.AtomicBitSet;
+import com.seniru.teambuilder.util.ProgressReporter;
+import com.seniru.teambuilder.util.TeamBuilderLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-candidate checks formation runs in its inner loops (canAddToTeam, calculateFitScore)
+ * and the leftover pass (distributeRemaining). Candidates cycle through the whole table so
+ * larger tables show their cache behaviour. The file log is off; add
+ * -p participants=1000000 -p teamSize=4,6 to widen the default matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TeamConstraintBenchmark {
+
+    @State(Scope.Thread)
+    public static class Candidates {
+        @Param({"1000", "100000"})
+        int participants;
+
+        @Param({"4"})
+        int teamSize;
+
+        ParticipantTable table;
+        TeamBuilder builder;
+        TeamDraft draft;
+        int next;
+
+        @Setup
+        public void setUp() {
+            table = BenchmarkParticipants.table(participants, 42);
+            builder = new TeamBuilder(teamSize);
+            builder.setReporter(ProgressReporter.quiet());
+            builder.setLogger(TeamBuilderLogger.disabled());
+            // a team one member short of full, where the checks have the most to look at
+            draft = new TeamDraft("Team-1", table, teamSize);
+            for (int row = 0; row < teamSize - 1; row++) {
+                draft.add(row);
+            }
+        }
+
+        int nextRow() {
+            int row = next++;
+            if (next == participants) next = 0;
+            return row;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Leftovers {
+        @Param({"1000", "100000"})
+        int participants;
+
+        @Param({"4"})
+        int teamSize;
+
+        @Param({"100", "1000"})
+        int leftovers;
+
+        ParticipantTable table;
+        TeamBuilder builder;
+        List<TeamDraft> drafts;
+        int[] remaining;
+        AtomicBitSet assigned;
+
+        @Setup(Level.Trial)
+        public void setUpTable() {
+            table = BenchmarkParticipants.table(participants, 42);
+            builder = new TeamBuilder(teamSize);
+            builder.setReporter(ProgressReporter.quiet());
+            builder.setLogger(TeamBuilderLogger.disabled());
+        }
+
+        // distributeRemaining grows the drafts, so each call starts from fresh ones
+        @Setup(Level.Invocation)
+        public void setUpTeams() {
+            int placed = Math.max(teamSize, participants - leftovers);
+            drafts = new ArrayList<>(placed / teamSize);
+            assigned = new AtomicBitSet(participants);
+            int row = 0;
+            for (int t = 0; row + teamSize <= placed; t++) {
+                TeamDraft draft = new TeamDraft("Team-" + (t + 1), table, teamSize + 2);
+                for (int i = 0; i < teamSize; i++, row++) {
+                    assigned.set(row);
+                    draft.add(row);
+                }
+                drafts.add(draft);
+            }
+            remaining = new int[participants - row];
+            for (int i = 0; i < remaining.length; i++) {
+                remaining[i] = row + i;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean canAddToTeam(Candidates state) {
+        return state.builder.canAddToTeam(state.table, state.draft, state.nextRow());
+    }
+
+    @Benchmark
+    public double calculateFitScore(Candidates state) {
+        return state.builder.calculateFitScore(state.table, state.draft, state.nextRow());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public List<TeamDraft> distributeRemaining(Leftovers state) {
+        state.builder.distributeRemaining(state.table, state.remaining, state.drafts, state.assigned);
+        return state.drafts;
+    }
+}
@@ -1,34 +1,112 @@
 package com.seniru.teambuilder.app;
 
 import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
 import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.BatchSurveyImporter;
 import com.seniru.teambuilder.service.CSVHandler;
-import com.seniru.teambuilder.service.SurveyProcess;
+import com.seniru.teambuilder.service.ClassificationStage;
+import com.seniru.teambuilder.service.DuplicatePolicy;
+import com.seniru.teambuilder.service.IdAllocator;
+import com.seniru.teambuilder.service.ImportResult;
+import com.seniru.teambuilder.service.ParticipantRegistry;
 import com.seniru.teambuilder.service.PersonalityClassifier;
+import com.seniru.teambuilder.service.SurveyProcess;
+import com.seniru.teambuilder.service.SurveyValidator;
+import com.seniru.teambuilder.service.TeamBuilder;
 import com.seniru.teambuilder.login.Organizer;
+import com.seniru.teambuilder.util.ProgressReporter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Scanner;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 public class AppController {
-    private static List<Participant> participants = new ArrayList<>();
-    private static List<Team> formedTeams = new ArrayList<>();
-    private SurveyProcess survey = new SurveyProcess();
-    private PersonalityClassifier classifier = new PersonalityClassifier();
-    private CSVHandler csvHandler = new CSVHandler();
+    private static final String PERSONALITY_MODEL_FILE = "resources/personality_model.txt";
+    // Replaced as a whole when a participant file is loaded
+    private volatile ParticipantRegistry registry;
+    private final IdAllocator idAllocator;
+    private List<Team> formedTeams = new ArrayList<>();
+    // Registrations from many threads append one file; a ReentrantLock so virtual threads blocked
+    // on the write do not pin their carriers
+    private final ReentrantLock csvLock = new ReentrantLock();
+    private final PersonalityModel personalityModel;
+    private final SurveyValidator surveyValidator;
+    private SurveyProcess survey;
+    private final ClassificationStage classificationStage;
+    private CSVHandler csvHandler;
+    private String formedTeamsFile;
     Scanner scanner = new Scanner(System.in);
-    private final ExecutorService executor = Executors.newFixedThreadPool(4);
     private Participant lastSurveyParticipant;
 
+    public AppController() {
+        this(new CSVHandler(), "formedTeams.csv");
+    }
+
+    // Where registrations and formed teams are written (the HTTP server and tests point this elsewhere)
+    public AppController(CSVHandler csvHandler, String formedTeamsFile) {
+        this(csvHandler, formedTeamsFile, new ParticipantRegistry(), new IdAllocator());
+    }
+
+    // Each controller owns its registrations and id sequence; pass them in to share or preload them
+    public AppController(CSVHandler csvHandler, String formedTeamsFile,
+                         ParticipantRegistry registry, IdAllocator idAllocator) {
+        this(csvHandler, formedTeamsFile, registry, idAllocator, loadPersonalityModel());
+    }
 
+    // The survey model normally comes from resources/personality_model.txt
+    public AppController(CSVHandler csvHandler, String formedTeamsFile,
+                         ParticipantRegistry registry, IdAllocator idAllocator, PersonalityModel personalityModel) {
+        this.csvHandler = csvHandler;
+        this.formedTeamsFile = formedTeamsFile;
+        this.registry = registry;
+        this.idAllocator = idAllocator;
+        this.personalityModel = personalityModel;
+        this.surveyValidator = new SurveyValidator(personalityModel);
+        this.classificationStage = new ClassificationStage(new PersonalityClassifier(personalityModel));
+        this.survey = newSurvey(personalityModel);
+    }
 
+
+    // Consistent read-only snapshot; registrations made after the call are not included
     public List<Participant> getParticipants() {
-        return participants;
+        return registry.snapshot();
+    }
+
+    public ParticipantRegistry getRegistry() {
+        return registry;
+    }
+
+    // The model registrations are validated and classified against
+    public PersonalityModel getPersonalityModel() {
+        return personalityModel;
+    }
+
+    private SurveyProcess newSurvey(PersonalityModel model) {
+        SurveyProcess survey = new SurveyProcess(model);
+        survey.setIdAllocator(idAllocator);
+        return survey;
+    }
+
+    // Per-event personality model; falls back to the built-in questions and bands
+    private static PersonalityModel loadPersonalityModel() {
+        if (!new File(PERSONALITY_MODEL_FILE).exists()) {
+            return PersonalityModel.defaultModel();
+        }
+        try {
+            return PersonalityModel.load(PERSONALITY_MODEL_FILE);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading personality model, using default: " + e.getMessage());
+            return PersonalityModel.defaultModel();
+        }
     }
 
 
@@ -36,8 +114,19 @@ public class AppController {
     public void loadAllParticipantsAtStart() {
         System.out.println("Enter file path: ");
         String path = scanner.nextLine();
-        participants = csvHandler.loadParticipants(path);
-        System.out.println("Participants loaded: " + participants.size()); }
+        // every row is kept; merging on id would fold distinct people sharing a placeholder id
+        ImportResult imported = csvHandler.importParticipants(path, DuplicatePolicy.KEEP_ALL);
+        List<Participant> loaded = classificationStage.process(imported.getParticipants());
+        // new registrations continue after the highest id in the file
+        idAllocator.resumeAfter(loaded);
+        // missing ids, and placeholder ids shared by different people, get fresh ones
+        idAllocator.repairIds(loaded);
+        registry = ParticipantRegistry.of(loaded);
+        System.out.println("Participants loaded: " + registry.size());
+        if (registry.size() < loaded.size()) {
+            System.out.println("Repeated registrations (same id and email) skipped: " + (loaded.size() - registry.size()));
+        }
+    }
 
 
     public void addParticipant() {
@@ -45,36 +134,154 @@ public class AppController {
         try {
             Participant p = survey.conductSurvey();
             lastSurveyParticipant = p;
+            register(p);
+            System.out.println("✅ Complete for: " + p.getName());
 
-            // Classification first
-            Future<Void> classificationTask = executor.submit(() -> {
-                classifier.classifyParticipant(p);
-                return null;
-            });
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+    }
 
-            // Wait for classification to complete
-            classificationTask.get(5, TimeUnit.SECONDS);
+    /**
+     * Non-interactive registration: validates the survey record, gives it an id, classifies it,
+     * appends it to the participants CSV and only then adds it to the registry. Safe to call from
+     * many threads. Throws IllegalArgumentException for invalid data, IllegalStateException when
+     * the id or email is already registered and UncheckedIOException when it could not be saved.
+     */
+    public Participant register(Participant p) {
+        validate(p);
+        if (p.getId() == null) p.setParticipantId(idAllocator.next());
+
+        // Classification first, inline (personality is set before the participant is shared)
+        classificationStage.classify(p);
+        if (p.getPersonalityType() == null) {
+            throw new IllegalArgumentException("Invalid personality responses");
+        }
 
-            // Add to list (personality is now set)
-            synchronized (participants) {
-                participants.add(p);
+        // Persist before publishing, so the registry never holds a participant that was not saved
+        csvLock.lock();
+        try {
+            if (isRegistered(p)) {
+                throw new IllegalStateException("Participant " + p.getId() + " / " + p.getEmail() + " is already registered");
             }
+            if (!csvHandler.appendParticipant(p)) {
+                throw new UncheckedIOException(new IOException("Could not save participant " + p.getId()));
+            }
+            registry.addUnique(p);
+        } finally {
+            csvLock.unlock();
+        }
+        return p;
+    }
 
-            // CSV writes complete participant
-            Future<Void> csvTask = executor.submit(() -> {
-                csvHandler.appendParticipant(p);
-                return null;
-            });
+    /**
+     * Registers participants from a survey import the same way as register: under the CSV lock,
+     * skipping any whose id or email is already registered (or repeated in the batch), numbering
+     * the rest if they have no id yet, saving them and then adding them to the registry.
+     * Returns the participants that were registered.
+     */
+    public List<Participant> registerImported(List<Participant> imported) throws IOException {
+        csvLock.lock();
+        try {
+            List<Participant> fresh = new ArrayList<>();
+            Set<String> emails = new HashSet<>();
+            for (Participant p : imported) {
+                if (isRegistered(p) || !emails.add(p.getEmail().trim().toLowerCase(Locale.ROOT))) {
+                    System.out.println("⚠ Skipping " + p.getEmail() + ": already registered");
+                    continue;
+                }
+                fresh.add(p);
+            }
+            // numbered only now, so skipped duplicates do not use up ids
+            for (Participant p : fresh) {
+                if (p.getId() == null) p.setParticipantId(idAllocator.next());
+            }
+            if (!csvHandler.appendParticipants(fresh)) {
+                throw new IOException("Could not save " + fresh.size() + " imported participants");
+            }
+            for (Participant p : fresh) {
+                registry.addUnique(p);
+            }
+            return fresh;
+        } finally {
+            csvLock.unlock();
+        }
+    }
 
-            csvTask.get(5, TimeUnit.SECONDS);
-            System.out.println("✅ Complete for: " + p.getName());
+    // Callers hold csvLock, so nothing can be registered between this check and the add
+    private boolean isRegistered(Participant p) {
+        return registry.containsEmail(p.getEmail()) || registry.findById(p.getId()) != null;
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error: " + e.getMessage());
+    private void validate(Participant p) {
+        if (p == null) throw new IllegalArgumentException("Participant cannot be null");
+        if (p.getName() == null || p.getName().isBlank()) throw new IllegalArgumentException("Name cannot be empty");
+        if (!SurveyValidator.isCsvSafe(p.getName())) {
+            throw new IllegalArgumentException("Name cannot contain commas or line breaks");
+        }
+        if (!SurveyValidator.isValidEmail(p.getEmail())) throw new IllegalArgumentException("Invalid email format");
+        if (p.getPreferredSport() == null || p.getPreferredSport().isBlank()) {
+            throw new IllegalArgumentException("Sport cannot be empty");
+        }
+        if (!SurveyValidator.isCsvSafe(p.getPreferredSport())) {
+            throw new IllegalArgumentException("Sport cannot contain commas or line breaks");
+        }
+        if (p.getPreferredRole() == null) throw new IllegalArgumentException("Role is required");
+        if (!SurveyValidator.isValidSkill(p.getSkillLevel())) {
+            throw new IllegalArgumentException("Skill level must be between "
+                    + SurveyValidator.MIN_SKILL + " and " + SurveyValidator.MAX_SKILL);
+        }
+        if (p.getResponses() == null && p.getPersonalityType() == null) {
+            throw new IllegalArgumentException("Personality responses are required");
+        }
+        if (p.getResponses() != null && !surveyValidator.isValidResponses(p.getResponses())) {
+            throw new IllegalArgumentException("Personality responses must answer all "
+                    + surveyValidator.getQuestionCount() + " questions with ratings from "
+                    + PersonalityModel.MIN_RATING + " to " + PersonalityModel.MAX_RATING);
+        }
+    }
+
+    /**
+     * Forms teams from the current registrations without prompting and saves them to the
+     * formed teams file. Leftovers are tried in relaxed teams only when flexible is true.
+     */
+    public List<Team> formTeams(int teamSize, int maxSameGame, int minRoles, boolean flexible)
+            throws InterruptedException, ExecutionException {
+        TeamBuilder builder = new TeamBuilder(teamSize, maxSameGame, minRoles);
+        builder.setReporter(ProgressReporter.quiet());
+        builder.setFlexiblePhaseDecider(flexible
+                ? TeamBuilder.FlexiblePhaseDecider.ALWAYS
+                : TeamBuilder.FlexiblePhaseDecider.NEVER);
+
+        List<Team> teams = builder.buildTeamsWithConcurrency(getParticipants());
+        csvLock.lock();
+        try {
+            csvHandler.saveFormedTeams(teams, formedTeamsFile);
+        } finally {
+            csvLock.unlock();
+        }
+        return teams;
+    }
+
+    // Bulk onboarding: survey answers from a file, or "-" to read them from standard input
+    public void importSurveyResponses() {
+        System.out.println("Enter survey file path (or - for standard input): ");
+        String path = scanner.nextLine().trim();
+        BatchSurveyImporter importer = new BatchSurveyImporter(personalityModel, idAllocator, csvHandler);
+        importer.setStoreRows(false);   // registerImported numbers and saves the ones not registered yet
+        try {
+            ImportResult result = "-".equals(path)
+                    ? importer.importStream(System.in)
+                    : importer.importFile(path);
+            int added = registerImported(result.getParticipants()).size();
+            System.out.println("✅ Registered " + added + " participants from survey import.");
+        } catch (IOException e) {
+            System.err.println("Error importing survey responses: " + e.getMessage());
         }
     }
 
     public void viewParticipants() {
+        List<Participant> participants = registry.snapshot();
         if (participants.isEmpty()) {
             System.out.println("No participants have been added yet.");
             return;
@@ -87,7 +294,7 @@ public class AppController {
     }
     public void viewFormedTeams() {
         // Load teams from CSV
-        formedTeams = csvHandler.loadFormedTeams("formedTeams.csv");
+        formedTeams = csvHandler.loadFormedTeams(formedTeamsFile);
 
         if (formedTeams.isEmpty()) {
             System.out.println("📭 No formed teams found.");
@@ -102,9 +309,8 @@ public class AppController {
             Team team = formedTeams.get(i);
             System.out.println("──────── TEAM " + team.getID() + " ────────");
 
-            List<Participant> members = team.getMembers();
             int count = 1;
-            for (Participant p : members) {
+            for (Participant p : team.getMembers()) {   // read-only view, not a copy
                 System.out.printf("%d. %-15s | %-10s | %-12s | %-12s | %d\n",
                         count,
                         p.getName(),
@@ -151,7 +357,8 @@ public class AppController {
 
         System.out.print("Enter desired team size (minimum 2): ");
         int teamSize;
-        Organizer organizer = new Organizer();
+        Organizer organizer = new Organizer(this);
+        organizer.setConsoleInput(scanner);
         while (true) {   // repeat until it stop explicitly from break
             try {
                 teamSize = Integer.parseInt(scanner.nextLine().trim());
@@ -0,0 +1,236 @@
+package com.seniru.teambuilder.app;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.BatchSurveyImporter;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.service.ClassificationStage;
+import com.seniru.teambuilder.service.DuplicatePolicy;
+import com.seniru.teambuilder.service.IdAllocator;
+import com.seniru.teambuilder.service.ImportResult;
+import com.seniru.teambuilder.service.PersonalityClassifier;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-interactive pipeline for scripted runs: TeamMateApp hands its arguments here when any are given.
+ *
+ *   load      read the participants CSV (--input); every row is kept unless --dedupe first|last merges
+ *             rows sharing an id or email
+ *   classify  classify raw survey answers (--surveys); without export, write all participants to --output
+ *   form      form teams (--teamSize, --maxSameGame, --minRoles, --flexible)
+ *   export    write the formed teams (--output)
+ *
+ * The --input file is only read, so running the same command twice gives the same output.
+ *
+ * Commands run in pipeline order whatever order they are given in. Exit codes: 0 success,
+ * 1 the run failed, 2 bad arguments.
+ */
+public class BatchRunner {
+
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private static final String[] STAGES = {"load", "classify", "form", "export"};
+
+    private final List<String> commands = new ArrayList<>();
+    private String input = "participants.csv";
+    private String surveys;
+    private String output = "formedTeams.csv";
+    private String modelFile;
+    private int teamSize = 5;
+    private int maxSameGame = 2;
+    private Integer minRoles;
+    private boolean flexible;
+    private boolean quiet;
+    private DuplicatePolicy dedupe = DuplicatePolicy.KEEP_ALL;
+
+    private ProgressReporter reporter;
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+    private List<Participant> participants = new ArrayList<>();
+    private List<Team> teams = new ArrayList<>();
+
+    public static int run(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            return EXIT_USAGE;
+        }
+        return runner.execute();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "load", "classify", "form", "export" -> commands.add(arg);
+                case "all" -> commands.addAll(List.of(STAGES));
+                case "--input", "-i" -> input = value(args, ++i, arg);
+                case "--surveys" -> surveys = value(args, ++i, arg);
+                case "--output", "-o" -> output = value(args, ++i, arg);
+                case "--model" -> modelFile = value(args, ++i, arg);
+                case "--teamSize" -> teamSize = intValue(args, ++i, arg);
+                case "--maxSameGame" -> maxSameGame = intValue(args, ++i, arg);
+                case "--minRoles" -> minRoles = intValue(args, ++i, arg);
+                case "--flexible" -> flexible = true;
+                case "--quiet", "-q" -> quiet = true;
+                case "--dedupe" -> dedupe = dedupePolicy(value(args, ++i, arg));
+                default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        if (commands.isEmpty()) throw new IllegalArgumentException("No command given");
+        if (commands.contains("classify") && surveys == null) {
+            throw new IllegalArgumentException("classify needs --surveys <file>");
+        }
+        if (commands.contains("export") && !commands.contains("form")) {
+            throw new IllegalArgumentException("export needs form in the same run");
+        }
+        if (teamSize < 2) throw new IllegalArgumentException("Team size must be >= 2");
+    }
+
+    private int execute() {
+        reporter = quiet ? ProgressReporter.quiet() : ProgressReporter.summarised();
+        long start = System.nanoTime();
+        int status = EXIT_OK;
+        try {
+            PersonalityModel model = modelFile == null ? PersonalityModel.defaultModel() : PersonalityModel.load(modelFile);
+            CSVHandler csvHandler = new CSVHandler(input);
+            csvHandler.setReporter(reporter);
+
+            if (commands.contains("load")) {
+                time("load", () -> {
+                    ImportResult result = csvHandler.importParticipants(input, dedupe);
+                    participants = new ClassificationStage(new PersonalityClassifier(model))
+                            .process(result.getParticipants());
+                    // missing ids, and placeholder ids shared by different people, get fresh ones
+                    IdAllocator ids = new IdAllocator();
+                    ids.resumeAfter(participants);
+                    ids.repairIds(participants);
+                });
+            }
+            if (commands.contains("classify")) {
+                time("classify", () -> {
+                    IdAllocator ids = new IdAllocator();
+                    ids.resumeAfter(participants.isEmpty() && new File(input).exists()
+                            ? csvHandler.loadParticipants(input)
+                            : participants);
+                    BatchSurveyImporter importer = new BatchSurveyImporter(model, ids, csvHandler);
+                    importer.setReporter(reporter);
+                    importer.setStoreRows(false);   // never append to --input
+                    List<Participant> imported = importer.importFile(surveys).getParticipants();
+                    for (Participant p : imported) {
+                        p.setParticipantId(ids.next());
+                    }
+                    participants.addAll(imported);
+                    // with export in the run, --output holds the teams and the participants only feed form
+                    if (!commands.contains("export")) saveParticipants(participants, output);
+                });
+            }
+            if (commands.contains("form")) {
+                time("form", () -> {
+                    TeamBuilder builder = new TeamBuilder(teamSize, maxSameGame,
+                            minRoles != null ? minRoles : (teamSize > 5 ? 4 : 3));
+                    builder.setReporter(reporter);
+                    builder.setFlexiblePhaseDecider(flexible
+                            ? TeamBuilder.FlexiblePhaseDecider.ALWAYS
+                            : TeamBuilder.FlexiblePhaseDecider.NEVER);
+                    teams = builder.buildTeamsWithConcurrency(participants);
+                });
+                if (teams.isEmpty()) {
+                    reporter.error("❌ No teams could be formed from " + participants.size() + " participants");
+                    status = EXIT_FAILED;
+                }
+            }
+            if (commands.contains("export") && status == EXIT_OK) {
+                time("export", () -> csvHandler.saveFormedTeams(teams, output));
+            }
+        } catch (Exception e) {
+            reporter.error("❌ Batch run failed: " + e.getMessage());
+            status = EXIT_FAILED;
+        }
+
+        printTimings(System.nanoTime() - start, status);
+        return status;
+    }
+
+    // Overwrite, so a repeated run does not duplicate rows
+    private void saveParticipants(List<Participant> list, String file) throws IOException {
+        Files.deleteIfExists(Path.of(file));
+        CSVHandler out = new CSVHandler(file);
+        out.setReporter(reporter);
+        if (!out.appendParticipants(list)) throw new IOException("Could not write " + file);
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    private void time(String name, Stage stage) throws Exception {
+        long start = System.nanoTime();
+        stage.run();
+        timings.put(name, System.nanoTime() - start);
+    }
+
+    private void printTimings(long totalNanos, int status) {
+        StringBuilder sb = new StringBuilder("\n⏱ Timing summary");
+        for (Map.Entry<String, Long> e : timings.entrySet()) {
+            sb.append(String.format("%n   %-9s %10.1f ms", e.getKey(), e.getValue() / 1e6));
+        }
+        sb.append(String.format("%n   %-9s %10.1f ms", "total", totalNanos / 1e6));
+        sb.append(String.format("%n   participants: %d, teams: %d, placed: %d, exit: %d",
+                participants.size(), teams.size(),
+                teams.stream().mapToInt(Team::getCurrentSize).sum(), status));
+        System.out.println(sb);
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) throw new IllegalArgumentException(option + " needs a value");
+        return args[i];
+    }
+
+    private static DuplicatePolicy dedupePolicy(String value) {
+        return switch (value) {
+            case "first" -> DuplicatePolicy.FIRST_WINS;
+            case "last" -> DuplicatePolicy.LAST_WINS;
+            default -> throw new IllegalArgumentException("--dedupe needs first or last");
+        };
+    }
+
+    private static int intValue(String[] args, int i, String option) {
+        try {
+            return Integer.parseInt(value(args, i, option));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " needs a number");
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: TeamMateApp <load|classify|form|export|all>... [options]\n" +
+                "  --input, -i <file>     participants CSV (default participants.csv)\n" +
+                "  --surveys <file>       raw survey answers for classify\n" +
+                "  --output, -o <file>    formed teams CSV, or classified participants when classify runs\n" +
+                "                         without export (default formedTeams.csv)\n" +
+                "  --dedupe first|last    merge rows sharing an id or email, keeping the first or last\n" +
+                "  --model <file>         personality model\n" +
+                "  --teamSize <n>         default 5\n" +
+                "  --maxSameGame <n>      default 2\n" +
+                "  --minRoles <n>         default 3 (4 for teams above 5)\n" +
+                "  --flexible             also form relaxed teams from leftovers\n" +
+                "  --quiet, -q            errors and the timing summary only");
+    }
+}
@@ -0,0 +1,199 @@
+package com.seniru.teambuilder.app;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.util.LatencyHistogram;
+import com.seniru.teambuilder.util.ProgressReporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for the registration path behind addParticipant: N simulated registrants call
+ * AppController.register (classification, registry insert, CSV append) back to back for a fixed
+ * duration. Reports throughput and p50/p99/p999 latency of the measured period.
+ *
+ *   java -cp target/classes com.seniru.teambuilder.app.RegistrationLoadHarness
+ *        [--threads 16] [--duration 10] [--warmup 2] [--virtual] [--out dir]
+ */
+public class RegistrationLoadHarness {
+
+    private static final String[] SPORTS = {"Chess", "FIFA", "Basketball", "Valorant", "Badminton", "Football"};
+    private static final Role[] ROLES = Role.values();
+
+    private final AppController controller;
+    private final int threads;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final boolean virtualThreads;
+
+    /**
+     * Outcome of one run; latencies are in nanoseconds.
+     */
+    public static class Result {
+        public final long registrations;
+        public final long errors;
+        public final double seconds;
+        public final LatencyHistogram latency;
+
+        Result(long registrations, long errors, double seconds, LatencyHistogram latency) {
+            this.registrations = registrations;
+            this.errors = errors;
+            this.seconds = seconds;
+            this.latency = latency;
+        }
+
+        public double throughput() {
+            return seconds == 0 ? 0 : registrations / seconds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Registrations: %d (%d errors) in %.1f s%n" +
+                            "Throughput:    %.0f registrations/s%n" +
+                            "Latency ms:    p50 %.3f | p99 %.3f | p999 %.3f | max %.3f | mean %.3f",
+                    registrations, errors, seconds, throughput(),
+                    latency.percentile(50) / 1e6, latency.percentile(99) / 1e6,
+                    latency.percentile(99.9) / 1e6, latency.getMax() / 1e6, latency.getMean() / 1e6);
+        }
+    }
+
+    public RegistrationLoadHarness(AppController controller, int threads, long warmupMillis, long durationMillis,
+                                boolean virtualThreads) {
+        if (threads < 1) throw new IllegalArgumentException("Threads must be >= 1");
+        if (durationMillis < 1) throw new IllegalArgumentException("Duration must be > 0");
+        this.controller = controller;
+        this.threads = threads;
+        this.warmupNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, warmupMillis));
+        this.durationNanos = TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        this.virtualThreads = virtualThreads;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = 16;
+        long duration = 10;
+        long warmup = 2;
+        boolean virtual = false;
+        Path out = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--duration" -> duration = Long.parseLong(args[++i]);
+                case "--warmup" -> warmup = Long.parseLong(args[++i]);
+                case "--virtual" -> virtual = true;
+                case "--out" -> out = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+        Path dir = out != null ? Files.createDirectories(out) : Files.createTempDirectory("teammate-load");
+
+        CSVHandler csvHandler = new CSVHandler(dir.resolve("participants.csv").toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        AppController controller = new AppController(csvHandler, dir.resolve("formedTeams.csv").toString());
+
+        System.out.printf("🚦 %d %s registrants, %d s warm-up, %d s measured, CSV in %s%n",
+                threads, virtual ? "virtual-thread" : "platform-thread", warmup, duration, dir);
+        Result result = new RegistrationLoadHarness(controller, threads, warmup * 1000, duration * 1000, virtual).run();
+        System.out.println(result);
+    }
+
+    public Result run() throws InterruptedException {
+        ExecutorService executor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threads);
+        String runId = Long.toString(System.nanoTime(), 36);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] window = new long[2];   // measured window start/end, set before the latch opens
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        List<LatencyHistogram> histograms = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histograms.add(histogram);
+            int worker = t;
+            futures.add(executor.submit(() -> registrant(worker, runId, start, window, histogram)));
+        }
+
+        window[0] = System.nanoTime() + warmupNanos;
+        window[1] = window[0] + durationNanos;
+        start.countDown();
+
+        long registrations = 0;
+        long errors = 0;
+        for (Future<long[]> f : futures) {
+            try {
+                long[] counts = f.get();
+                registrations += counts[0];
+                errors += counts[1];
+            } catch (Exception e) {
+                errors++;
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        LatencyHistogram latency = new LatencyHistogram();
+        histograms.forEach(latency::merge);
+        return new Result(registrations, errors, durationNanos / 1e9, latency);
+    }
+
+    // One simulated registrant: registers until the window closes; only measured-window calls count
+    private long[] registrant(int worker, String runId, CountDownLatch start, long[] window,
+                              LatencyHistogram histogram) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(worker * 7919L + 1);
+        // answer the controller's loaded model, which need not have the default five questions
+        int questions = controller.getPersonalityModel().getQuestionCount();
+        start.await();
+        long measureFrom = window[0];
+        long measureUntil = window[1];
+        long registered = 0;
+        long errors = 0;
+
+        for (long n = 0; ; n++) {
+            Participant p = new Participant();
+            p.setName("Load_" + worker + "_" + n);
+            p.setEmail("load." + runId + "." + worker + "." + n + "@uni.edu");
+            p.setPreferredSport(SPORTS[random.nextInt(SPORTS.length)]);
+            p.setPreferredRole(ROLES[random.nextInt(ROLES.length)]);
+            p.setSkillLevel(1 + random.nextInt(10));
+            int[] responses = new int[questions];
+            for (int q = 0; q < questions; q++) {
+                responses[q] = PersonalityModel.MIN_RATING
+                        + random.nextInt(PersonalityModel.MAX_RATING - PersonalityModel.MIN_RATING + 1);
+            }
+            p.setResponses(responses);
+
+            long begin = System.nanoTime();
+            if (begin >= measureUntil) break;
+            boolean ok;
+            try {
+                controller.register(p);
+                ok = true;
+            } catch (RuntimeException e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+
+            if (begin >= measureFrom) {
+                if (ok) {
+                    registered++;
+                    histogram.record(end - begin);
+                } else {
+                    errors++;
+                }
+            }
+        }
+        return new long[]{registered, errors};
+    }
+}
@@ -19,6 +19,10 @@ public class TeamMateApp {
 
 
     public static void main(String[] args) {
+        // Any arguments mean a scripted batch run instead of the menu
+        if (args.length > 0) {
+            System.exit(BatchRunner.run(args));
+        }
         printBanner();
 
         boolean running = true;
@@ -80,7 +84,7 @@ public class TeamMateApp {
         while (running) {
 
             organizerMenu();
-            int choice = getIntInput("Enter choice: ", 1, 5);
+            int choice = getIntInput("Enter choice: ", 1, 6);
 
             switch (choice) {
                 case 1:
@@ -96,6 +100,9 @@ public class TeamMateApp {
                     appController.viewFormedTeams();
                     break;
                 case 5:
+                    appController.importSurveyResponses();
+                    break;
+                case 6:
                     running = false;
                     break;
             }
@@ -133,7 +140,8 @@ public class TeamMateApp {
         System.out.println("│  2. Load participants from CSV          │");
         System.out.println("│  3. Form teams                          │");
         System.out.println("│  4. View formed teams                   │");
-        System.out.println("│  5. Back to Login Screen                │");
+        System.out.println("│  5. Import survey responses             │");
+        System.out.println("│  6. Back to Login Screen                │");
         System.out.println("└─────────────────────────────────────────┘");
         System.out.printf("  [Loaded: %d participants, %d teams]\n",
                 appController.getParticipants().size(), formedTeams.size());
@@ -0,0 +1,251 @@
+package com.seniru.teambuilder.app;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.SurveyValidator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP API over AppController, so many participants can register at once during sign-up.
+ * Every request runs on its own virtual thread. Request bodies are form encoded
+ * (name=..&email=..&sport=..&role=..&skill=..&responses=1,2,3,4,5) and responses are JSON.
+ *
+ *   POST /participants            register one participant
+ *   GET  /participants[?type=&sport=]  list registrations
+ *   POST /teams?teamSize=&maxSameGame=&minRoles=&flexible=   form and save teams
+ *
+ * The API has no authentication, so it listens on the loopback interface unless a bind
+ * address is given explicitly.
+ */
+public class TeamMateServer {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    private final AppController controller;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TeamMateServer(AppController controller, int port) throws IOException {
+        this(controller, InetAddress.getLoopbackAddress(), port);
+    }
+
+    // Binding anything but loopback exposes the unauthenticated write endpoints to the network
+    public TeamMateServer(AppController controller, InetAddress bindAddress, int port) throws IOException {
+        if (bindAddress == null) throw new IllegalArgumentException("Bind address cannot be null");
+        this.controller = controller;
+        this.server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        server.createContext("/participants", this::handleParticipants);
+        server.createContext("/teams", this::handleTeams);
+        server.setExecutor(executor);
+    }
+
+    // Usage: TeamMateServer [port] [bindAddress]; binds to loopback when no address is given
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        InetAddress bindAddress = args.length > 1 ? InetAddress.getByName(args[1]) : InetAddress.getLoopbackAddress();
+        TeamMateServer server = new TeamMateServer(new AppController(), bindAddress, port);
+        server.start();
+        System.out.println("🌐 TeamMate API listening on http://" + bindAddress.getHostAddress() + ":" + server.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    // Actual port, useful when started on port 0
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleParticipants(HttpExchange exchange) throws IOException {
+        try {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> listParticipants(exchange);
+                case "POST" -> registerParticipant(exchange);
+                default -> send(exchange, 405, error("Method not allowed"));
+            }
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            send(exchange, 409, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, 500, error(e.getMessage()));
+        }
+    }
+
+    private void registerParticipant(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseForm(readBody(exchange));
+
+        Participant p = new Participant();
+        p.setName(form.get("name"));
+        p.setEmail(form.get("email"));
+        p.setPreferredSport(form.get("sport"));
+        p.setPreferredRole(SurveyValidator.lookupRole(form.get("role")));
+        if (p.getPreferredRole() == null) throw new IllegalArgumentException("Invalid role");
+        p.setSkillLevel(SurveyValidator.parseInt(form.get("skill")));
+        p.setResponses(parseResponses(form.get("responses")));
+
+        controller.register(p);
+        send(exchange, 201, participantJson(p));
+    }
+
+    private void listParticipants(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+        List<Participant> participants;
+        if (query.containsKey("type")) {
+            participants = controller.getRegistry().findByType(PersonalityType.valueOf(query.get("type").toUpperCase()));
+        } else if (query.containsKey("sport")) {
+            participants = controller.getRegistry().findBySport(query.get("sport"));
+        } else {
+            participants = controller.getParticipants();
+        }
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < participants.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append(participantJson(participants.get(i)));
+        }
+        send(exchange, 200, json.append(']').toString());
+    }
+
+    private void handleTeams(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, error("Method not allowed"));
+            return;
+        }
+        try {
+            Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+            int teamSize = intParam(query, "teamSize", 5);
+            int maxSameGame = intParam(query, "maxSameGame", 2);
+            int minRoles = intParam(query, "minRoles", teamSize > 5 ? 4 : 3);
+            boolean flexible = Boolean.parseBoolean(query.getOrDefault("flexible", "false"));
+
+            List<Team> teams = controller.formTeams(teamSize, maxSameGame, minRoles, flexible);
+
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < teams.size(); i++) {
+                Team team = teams.get(i);
+                if (i > 0) json.append(',');
+                json.append("{\"id\":").append(quote(team.getID())).append(",\"members\":[");
+                List<Participant> members = team.getMembers();
+                for (int m = 0; m < members.size(); m++) {
+                    if (m > 0) json.append(',');
+                    json.append(quote(members.get(m).getId()));
+                }
+                json.append("]}");
+            }
+            send(exchange, 200, json.append(']').toString());
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, 503, error("Team formation was interrupted"));
+        } catch (ExecutionException | RuntimeException e) {
+            send(exchange, 500, error(e.getMessage()));
+        }
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        if (!query.containsKey(name)) return defaultValue;
+        int value = SurveyValidator.parseInt(query.get(name));
+        if (value == SurveyValidator.INVALID) throw new IllegalArgumentException("Invalid " + name);
+        return value;
+    }
+
+    private static int[] parseResponses(String text) {
+        if (text == null || text.isBlank()) throw new IllegalArgumentException("Personality responses are required");
+        String[] parts = text.split(",");
+        int[] responses = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            responses[i] = SurveyValidator.parseInt(parts[i]);
+        }
+        return responses;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) return values;
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            values.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static String participantJson(Participant p) {
+        return "{\"id\":" + quote(p.getId()) +
+                ",\"name\":" + quote(p.getName()) +
+                ",\"email\":" + quote(p.getEmail()) +
+                ",\"sport\":" + quote(p.getPreferredSport()) +
+                ",\"role\":" + quote(String.valueOf(p.getPreferredRole())) +
+                ",\"skill\":" + p.getSkillLevel() +
+                ",\"score\":" + p.getPersonalityScore() +
+                ",\"type\":" + quote(String.valueOf(p.getPersonalityType())) + "}";
+    }
+
+    private static String error(String message) {
+        return "{\"error\":" + quote(message) + "}";
+    }
+
+    private static String quote(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
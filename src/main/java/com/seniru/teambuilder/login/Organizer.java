@@ -1,60 +1,72 @@
 package com.seniru.teambuilder.login;
 
 import com.seniru.teambuilder.app.AppController;
-import com.seniru.teambuilder.model.Participant;
 import com.seniru.teambuilder.model.Team;
 import com.seniru.teambuilder.service.CSVHandler;
 import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Scanner;
 import java.util.concurrent.ExecutionException;
 
 public class Organizer {
 
 
     private CSVHandler fileHandler;
-    private AppController controller = new AppController();
+    private final AppController controller;
     private List<Team> formedTeams;
+    private ProgressReporter reporter = ProgressReporter.console();
+    private Scanner consoleInput;
 
-    public Organizer() {
+    // Forms teams from the registrations of the given controller
+    public Organizer(AppController controller) {
+        this.controller = controller;
         this.fileHandler = new CSVHandler();
         this.formedTeams = new ArrayList<>();
 
     }
 
-    // Set team size
+    // Output of the formation run (builder, CSV export and the team listing) goes here
+    public void setReporter(ProgressReporter reporter) {
+        this.reporter = reporter;
+        fileHandler.setReporter(reporter);
+    }
 
+    // Where the relaxed-teams question reads its answer (the menu's own Scanner)
+    public void setConsoleInput(Scanner consoleInput) {
+        this.consoleInput = consoleInput;
+    }
 
     public List<Team> initiateTeamFormation(int teamSize) {
 
         try {
             // Create TeamBuilder instance with team size
             TeamBuilder builder = new TeamBuilder(teamSize); // adjust teamSize as needed
+            builder.setReporter(reporter);
+            if (consoleInput != null) builder.setConsoleInput(consoleInput);
 
             // Form teams concurrently
             formedTeams = builder.buildTeamsWithConcurrency(controller.getParticipants());
             fileHandler.saveFormedTeams(formedTeams);
             // Display teams
             for (Team team : formedTeams) {
-                System.out.println("\n=== " + //team.get()
-                        " ===");
-                for (Participant p : team.getMembers()) {
-                    System.out.println(" - " + p.getName()
-                            + " | Role: " + p.getPreferredRole()
-                            + " | Game: " + p.getPreferredSport()
-                            + " | Personality: " + p.getPersonalityType()
-                            + " | Skill: " + p.getSkillLevel());
-                }
+                reporter.progress("\n=== " + team.getID() + " ===");
+                team.forEachMember(p -> reporter.progress(" - " + p.getName()
+                        + " | Role: " + p.getPreferredRole()
+                        + " | Game: " + p.getPreferredSport()
+                        + " | Personality: " + p.getPersonalityType()
+                        + " | Skill: " + p.getSkillLevel()));
             }
 
         } catch (InterruptedException e) {
-            System.err.println("Team formation was interrupted: " + e.getMessage());
+            reporter.error("Team formation was interrupted: " + e.getMessage());
             Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
-            System.err.println("Execution error during team formation: " + e.getMessage());
+            reporter.error("Execution error during team formation: " + e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("Error: " + e.getMessage());
+            reporter.error("Error: " + e.getMessage());
         }
 
         return formedTeams;
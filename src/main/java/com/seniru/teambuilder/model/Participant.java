@@ -24,9 +24,9 @@ public class Participant {
 
     }
 
-    // default constructor
+    // default constructor (id is assigned later by the loader or registration)
     public Participant(){
-        this.id = "P001";
+        this.id = null;
         this.name = "Unknown";
         this.preferredSport = "Unknown";
         this.skillLevel = 0;
@@ -100,6 +100,21 @@ public class Participant {
         this.personalityType=personalityType;
     }
 
+    // Identity is the participant id; a participant without an id is only equal to itself.
+    // Set the id before the participant goes into a team or any other hashed collection.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Participant)) return false;
+        Participant other = (Participant) o;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : System.identityHashCode(this);
+    }
+
     @Override
     public String toString() {
         return "com.seniru.teambuilder.model.Participant{" +
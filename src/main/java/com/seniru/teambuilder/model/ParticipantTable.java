@@ -0,0 +1,217 @@
+package com.seniru.teambuilder.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Column-oriented participant store for the team formation hot path.
+ * Skill, score, sport id, role ordinal and personality type ordinal live in int arrays indexed
+ * by row, and text columns sit in their own arrays, so constraint checks read a few ints instead
+ * of chasing Participant objects. Sports are dictionary-encoded case-insensitively, matching
+ * Team.countGame. A missing role, type or sport is stored as -1.
+ *
+ * Rows added from a Participant keep that object as their view; rows added from raw values
+ * create a Participant only when one is asked for. The table is filled by one thread and may
+ * then be read by any number of threads.
+ */
+public final class ParticipantTable {
+
+    public static final int NONE = -1;
+
+    private static final Role[] ROLES = Role.values();
+    private static final PersonalityType[] TYPES = PersonalityType.values();
+
+    private int size;
+    private int[] skill;
+    private int[] score;
+    private int[] sportId;
+    private int[] role;
+    private int[] type;
+    private String[] ids;
+    private String[] names;
+    private String[] emails;
+    // Participant views, built lazily by any formation thread, so published with compareAndSet
+    private AtomicReferenceArray<Participant> views;
+
+    private final Map<String, Integer> sportIds = new HashMap<>();
+    private final List<String> sportNames = new ArrayList<>();
+
+    public ParticipantTable() {
+        this(16);
+    }
+
+    public ParticipantTable(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        skill = new int[capacity];
+        score = new int[capacity];
+        sportId = new int[capacity];
+        role = new int[capacity];
+        type = new int[capacity];
+        ids = new String[capacity];
+        names = new String[capacity];
+        emails = new String[capacity];
+        views = new AtomicReferenceArray<>(capacity);
+    }
+
+    public static ParticipantTable of(List<Participant> participants) {
+        ParticipantTable table = new ParticipantTable(participants.size());
+        for (Participant p : participants) {
+            table.add(p);
+        }
+        return table;
+    }
+
+    // Add a row backed by an existing participant; participant(row) returns that same object
+    public int add(Participant p) {
+        int row = add(p.getParticipantId(), p.getName(), p.getEmail(), p.getPreferredSport(),
+                p.getPreferredRole(), p.getSkillLevel(), p.getPersonalityScore(), p.getPersonalityType());
+        views.set(row, p);
+        return row;
+    }
+
+    // Add a row from raw values without creating a Participant
+    public int add(String id, String name, String email, String sport, Role preferredRole,
+                   int skillLevel, int personalityScore, PersonalityType personalityType) {
+        if (size == skill.length) {
+            grow();
+        }
+        int row = size++;
+        ids[row] = id;
+        names[row] = name;
+        emails[row] = email;
+        sportId[row] = encodeSport(sport);
+        role[row] = preferredRole == null ? NONE : preferredRole.ordinal();
+        type[row] = personalityType == null ? NONE : personalityType.ordinal();
+        skill[row] = skillLevel;
+        score[row] = personalityScore;
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int skill(int row) {
+        return skill[row];
+    }
+
+    public int score(int row) {
+        return score[row];
+    }
+
+    public int sportId(int row) {
+        return sportId[row];
+    }
+
+    public int roleOrdinal(int row) {
+        return role[row];
+    }
+
+    public int typeOrdinal(int row) {
+        return type[row];
+    }
+
+    public String id(int row) {
+        return ids[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String email(int row) {
+        return emails[row];
+    }
+
+    public Role role(int row) {
+        return role[row] == NONE ? null : ROLES[role[row]];
+    }
+
+    public PersonalityType type(int row) {
+        return type[row] == NONE ? null : TYPES[type[row]];
+    }
+
+    public String sport(int row) {
+        return sportId[row] == NONE ? null : sportNames.get(sportId[row]);
+    }
+
+    // Number of distinct sports; sport ids run from 0 to sportCount() - 1
+    public int sportCount() {
+        return sportNames.size();
+    }
+
+    public String sportName(int id) {
+        return sportNames.get(id);
+    }
+
+    /**
+     * The row as a Participant: the original object for rows added from one,
+     * otherwise built on first access and reused afterwards.
+     */
+    public Participant participant(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        Participant p = views.get(row);
+        if (p == null) {
+            p = new Participant(ids[row], names[row], emails[row], sport(row), role(row),
+                    skill[row], score[row], type(row));
+            // Two threads may build the same row; both must get the object that was stored
+            if (!views.compareAndSet(row, null, p)) p = views.get(row);
+        }
+        return p;
+    }
+
+    // Read-only List<Participant> view over the rows
+    public List<Participant> asList() {
+        return new ParticipantView();
+    }
+
+    private int encodeSport(String sport) {
+        if (sport == null) return NONE;
+        String key = sport.toLowerCase(Locale.ROOT);
+        Integer id = sportIds.get(key);
+        if (id == null) {
+            id = sportNames.size();
+            sportIds.put(key, id);
+            sportNames.add(sport);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int capacity = skill.length * 2;
+        skill = Arrays.copyOf(skill, capacity);
+        score = Arrays.copyOf(score, capacity);
+        sportId = Arrays.copyOf(sportId, capacity);
+        role = Arrays.copyOf(role, capacity);
+        type = Arrays.copyOf(type, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        AtomicReferenceArray<Participant> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < size; i++) {
+            grown.set(i, views.get(i));
+        }
+        views = grown;
+    }
+
+    private class ParticipantView extends AbstractList<Participant> implements RandomAccess {
+        @Override
+        public Participant get(int index) {
+            return participant(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.seniru.teambuilder.model;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Personality survey definition: the questions, an integer weight per question and the
+ * scaled-score band of each personality type.
+ * The model is compiled on construction into lookup tables (weighted total → scaled score,
+ * scaled score → type), so classification costs the same as the old hard-coded rules.
+ *
+ * File format, one entry per line ('#' starts a comment):
+ *   QUESTION,weight,question text
+ *   BAND,TYPE,minScaled,maxScaled
+ */
+public final class PersonalityModel {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+    public static final int MAX_SCALED_SCORE = 100;
+
+    private static final PersonalityModel DEFAULT = new PersonalityModel(
+            new String[]{
+                    "I enjoy taking the lead and guiding others.",
+                    "I prefer analyzing situations.",
+                    "I work well with others.",
+                    "I am calm under pressure.",
+                    "I make quick decisions."
+            },
+            new int[]{1, 1, 1, 1, 1},
+            List.of(
+                    new Band(PersonalityType.LEADER, 90, 100),
+                    new Band(PersonalityType.BALANCED, 70, 89),
+                    new Band(PersonalityType.THINKER, 50, 69),
+                    new Band(PersonalityType.ANALYST, 20, 49)));
+
+    private final String[] questions;
+    private final int[] weights;
+    private final List<Band> bands;
+    private final int minTotal;
+    private final int maxTotal;
+    private final int[] scaledByTotal;
+    private final PersonalityType[] typeByTotal;
+    private final PersonalityType[] typeByScaled;
+
+    public PersonalityModel(String[] questions, int[] weights, List<Band> bands) {
+        if (questions == null || questions.length == 0) {
+            throw new IllegalArgumentException("Personality model needs at least one question");
+        }
+        if (weights == null || weights.length != questions.length) {
+            throw new IllegalArgumentException("Every question needs exactly one weight");
+        }
+        int totalWeight = 0;
+        for (int w : weights) {
+            if (w < 1) throw new IllegalArgumentException("Question weights must be >= 1");
+            totalWeight += w;
+        }
+
+        this.questions = questions.clone();
+        this.weights = weights.clone();
+        this.bands = List.copyOf(bands);
+        this.minTotal = totalWeight * MIN_RATING;
+        this.maxTotal = totalWeight * MAX_RATING;
+
+        // scaled score → type
+        typeByScaled = new PersonalityType[MAX_SCALED_SCORE + 1];
+        for (Band band : this.bands) {
+            if (band.min < 0 || band.max > MAX_SCALED_SCORE || band.min > band.max) {
+                throw new IllegalArgumentException("Invalid band for " + band.type + ": " + band.min + "-" + band.max);
+            }
+            for (int s = band.min; s <= band.max; s++) {
+                if (typeByScaled[s] != null) {
+                    throw new IllegalArgumentException("Bands overlap at scaled score " + s);
+                }
+                typeByScaled[s] = band.type;
+            }
+        }
+
+        // weighted total → scaled score and type; every reachable total must land in a band
+        scaledByTotal = new int[maxTotal + 1];
+        typeByTotal = new PersonalityType[maxTotal + 1];
+        for (int total = minTotal; total <= maxTotal; total++) {
+            int scaled = scale(total);
+            if (typeByScaled[scaled] == null) {
+                throw new IllegalArgumentException("No band covers scaled score " + scaled);
+            }
+            scaledByTotal[total] = scaled;
+            typeByTotal[total] = typeByScaled[scaled];
+        }
+    }
+
+    // The built-in model: five equally weighted questions, the original score bands
+    public static PersonalityModel defaultModel() {
+        return DEFAULT;
+    }
+
+    public static PersonalityModel load(String filePath) throws IOException {
+        List<String> questions = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        List<Band> bands = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                String[] parts = line.split(",", 4);
+                try {
+                    switch (parts[0].trim().toUpperCase()) {
+                        case "QUESTION":
+                            // question text may itself contain commas
+                            String[] q = line.split(",", 3);
+                            weights.add(Integer.parseInt(q[1].trim()));
+                            questions.add(q[2].trim());
+                            break;
+                        case "BAND":
+                            bands.add(new Band(PersonalityType.valueOf(parts[1].trim().toUpperCase()),
+                                    Integer.parseInt(parts[2].trim()),
+                                    Integer.parseInt(parts[3].trim())));
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unknown entry '" + parts[0] + "'");
+                    }
+                } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid personality model line " + lineNumber + ": " + line, e);
+                }
+            }
+        }
+
+        return new PersonalityModel(
+                questions.toArray(new String[0]),
+                weights.stream().mapToInt(Integer::intValue).toArray(),
+                bands);
+    }
+
+    public int getQuestionCount() {
+        return questions.length;
+    }
+
+    public List<String> getQuestions() {
+        return Arrays.asList(questions.clone());
+    }
+
+    public String getQuestion(int index) {
+        return questions[index];
+    }
+
+    public int getWeight(int index) {
+        return weights[index];
+    }
+
+    public List<Band> getBands() {
+        return bands;
+    }
+
+    public int getMinTotal() {
+        return minTotal;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    // Weighted total → 0–100 scale; the lowest possible total maps to 20 for five 1–5 questions
+    public int scaledScore(int weightedTotal) {
+        if (weightedTotal >= minTotal && weightedTotal <= maxTotal) {
+            return scaledByTotal[weightedTotal];
+        }
+        return scale(weightedTotal);
+    }
+
+    // null when the score lies outside every band
+    public PersonalityType typeForScaledScore(int scaledScore) {
+        if (scaledScore < 0 || scaledScore > MAX_SCALED_SCORE) return null;
+        return typeByScaled[scaledScore];
+    }
+
+    // Direct table access for the batch classifier; callers must stay within minTotal..maxTotal
+    public int scaledScoreAt(int weightedTotal) {
+        return scaledByTotal[weightedTotal];
+    }
+
+    public PersonalityType typeAt(int weightedTotal) {
+        return typeByTotal[weightedTotal];
+    }
+
+    private int scale(int weightedTotal) {
+        return Math.round(weightedTotal * (float) MAX_SCALED_SCORE / maxTotal);
+    }
+
+    public static final class Band {
+        private final PersonalityType type;
+        private final int min;
+        private final int max;
+
+        public Band(PersonalityType type, int min, int max) {
+            if (type == null) throw new IllegalArgumentException("Band type cannot be empty");
+            this.type = type;
+            this.min = min;
+            this.max = max;
+        }
+
+        public PersonalityType getType() {
+            return type;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+    }
+}
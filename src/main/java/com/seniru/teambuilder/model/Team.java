@@ -1,14 +1,23 @@
 package com.seniru.teambuilder.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class Team {
     private String id;
     private final List<Participant> members;
+    private final List<Participant> readOnlyMembers;   // created once, shared by every getMembers() call
+    private final Set<Participant> memberSet = new HashSet<>();   // id-based, for O(1) duplicate checks
+    private volatile boolean frozen;
     private  int maxMembers;   // teams cannot be changed after formation
+    private final int[] typeCounts = new int[PersonalityType.values().length];  // indexed by ordinal
+    private int roleMask;   // bit r set when a member prefers Role with ordinal r
 
     public Team(String id,int maxMembers) {
         if (maxMembers < 2) {
@@ -17,18 +26,27 @@ public class Team {
         this.id = id;
         this.maxMembers = maxMembers;
         this.members = new ArrayList<>();
+        this.readOnlyMembers = Collections.unmodifiableList(members);
     }
 
     public Team(String id) {
         this.id=id;
         this.maxMembers=20;
         this.members = new ArrayList<>();
+        this.readOnlyMembers = Collections.unmodifiableList(members);
     }
 
     public boolean addMember(Participant p) {
+        if (frozen) {
+            throw new IllegalStateException("Team " + id + " is frozen");
+        }
         if (members.size() >= maxMembers) return false;
-        if (members.contains(p)) return false;
+        if (!memberSet.add(p)) return false;
         members.add(p);    // team receives an existing participant(Aggregation)
+        if (p.getPersonalityType() != null) {
+            typeCounts[p.getPersonalityType().ordinal()]++;
+        }
+        roleMask |= roleBit(p.getPreferredRole());
         return true;
     }
 
@@ -37,8 +55,26 @@ public class Team {
         return members.size() >= maxMembers;
     }
 
+    // Read-only view, no copy; once the team is frozen it is an immutable snapshot
     public List<Participant> getMembers() {
-        return new ArrayList<>(members);
+        return readOnlyMembers;
+    }
+
+    // Internal iteration over the members without exposing or copying the list
+    public void forEachMember(Consumer<? super Participant> action) {
+        for (int i = 0; i < members.size(); i++) {
+            action.accept(members.get(i));
+        }
+    }
+
+    // Mark the team complete; later addMember calls throw
+    public Team freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
     }
 
 
@@ -68,10 +104,7 @@ public class Team {
 
     public long countPersonalityType(PersonalityType personalityType) {
         if (personalityType == null) return 0;
-        return members.stream()
-                .filter(p -> p.getPersonalityType() != null &&
-                        p.getPersonalityType()==personalityType)
-                .count();
+        return typeCounts[personalityType.ordinal()];
     }
 
     public long countGame(String gameName) {
@@ -83,12 +116,20 @@ public class Team {
     }
 
     public boolean hasRole(Role role) {
-        if (members == null || members.isEmpty()) return false;
+        return (roleMask & roleBit(role)) != 0;
+    }
 
-        for (Participant p : members) {
-            if (p.getPreferredRole() == role) return true;
-        }
-        return false;
+    // Bit set of the roles covered so far (bit = Role ordinal)
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    public int getRoleCount() {
+        return Integer.bitCount(roleMask);
+    }
+
+    public static int roleBit(Role role) {
+        return role == null ? 0 : 1 << role.ordinal();
     }
 
     public String getID(){
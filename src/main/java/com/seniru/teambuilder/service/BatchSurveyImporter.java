@@ -0,0 +1,168 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.util.ProgressReporter;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Non-interactive counterpart of SurveyProcess: reads raw survey answers in bulk, one per line as
+ * name,email,sport,role,skill,r1..rN (N = the model's question count). Lines are validated in
+ * parallel, classified through ClassificationStage, given ids and appended to the participants CSV
+ * in one batched write. A header line starting with "name" is skipped.
+ */
+public class BatchSurveyImporter {
+
+    private static final int FIXED_FIELDS = 5;
+
+    private final SurveyValidator validator;
+    private final ClassificationStage classificationStage;
+    private final IdAllocator idAllocator;
+    private final CSVHandler csvHandler;
+    private ProgressReporter reporter = ProgressReporter.console();
+    private boolean storeRows = true;
+
+    public BatchSurveyImporter(PersonalityModel model, IdAllocator idAllocator, CSVHandler csvHandler) {
+        this(model, new ClassificationStage(new PersonalityClassifier(model)), idAllocator, csvHandler);
+    }
+
+    public BatchSurveyImporter(PersonalityModel model, ClassificationStage classificationStage,
+                               IdAllocator idAllocator, CSVHandler csvHandler) {
+        this.validator = new SurveyValidator(model);
+        this.classificationStage = classificationStage;
+        this.idAllocator = idAllocator;
+        this.csvHandler = csvHandler;
+    }
+
+    public void setReporter(ProgressReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    /**
+     * Whether imported participants are given ids and appended to the participants CSV (the
+     * default). Callers that check them against existing registrations switch this off: they get
+     * the participants without ids and number and store only the ones they keep, so rejected
+     * duplicates do not use up ids.
+     */
+    public void setStoreRows(boolean storeRows) {
+        this.storeRows = storeRows;
+    }
+
+    public ImportResult importFile(String filePath) throws IOException {
+        try (Reader reader = new FileReader(filePath, StandardCharsets.UTF_8)) {
+            return importFrom(reader);
+        }
+    }
+
+    // Reads until end of stream; the stream is left open (e.g. System.in)
+    public ImportResult importStream(InputStream in) throws IOException {
+        return importFrom(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public ImportResult importFrom(Reader source) throws IOException {
+        List<String> lines = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();   // physical line in the source, for warnings
+        BufferedReader reader = source instanceof BufferedReader
+                ? (BufferedReader) source
+                : new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.regionMatches(true, 0, "name", 0, 4)) continue;
+            if (!line.isBlank()) {
+                lines.add(line);
+                lineNumbers.add(lineNumber);
+            }
+        }
+
+        // Parse and validate every line in parallel; results stay in input order
+        Participant[] parsed = new Participant[lines.size()];
+        String[] errors = new String[lines.size()];
+        IntStream.range(0, lines.size()).parallel().forEach(i -> {
+            try {
+                parsed[i] = parse(lines.get(i));
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        List<Participant> valid = new ArrayList<>(parsed.length);
+        int invalid = 0;
+        for (int i = 0; i < parsed.length; i++) {
+            if (parsed[i] != null) {
+                valid.add(parsed[i]);
+            } else {
+                invalid++;
+                reporter.warn("⚠ Skipping survey line " + lineNumbers.get(i) + ": " + errors[i]);
+            }
+        }
+
+        classificationStage.process(valid);
+        if (storeRows) {
+            // ids are handed out after validation so rejected lines do not burn numbers
+            for (Participant p : valid) {
+                p.setParticipantId(idAllocator.next());
+            }
+            if (!csvHandler.appendParticipants(valid)) {
+                throw new IOException("Could not store " + valid.size() + " imported participants");
+            }
+        }
+
+        reporter.summary("📥 Imported " + valid.size() + " survey responses" +
+                (invalid > 0 ? ", " + invalid + " invalid lines skipped." : "."));
+        return new ImportResult(valid, lines.size(), 0, invalid);
+    }
+
+    private Participant parse(String line) {
+        String[] data = line.split(",");
+        int expected = FIXED_FIELDS + validator.getQuestionCount();
+        if (data.length != expected) {
+            throw new IllegalArgumentException("expected " + expected + " fields but found " + data.length);
+        }
+
+        String name = data[0].trim();
+        String email = data[1].trim();
+        String sport = data[2].trim();
+        if (name.isEmpty()) throw new IllegalArgumentException("Name cannot be empty");
+        if (!SurveyValidator.isValidEmail(email)) throw new IllegalArgumentException("Invalid email format");
+        if (sport.isEmpty()) throw new IllegalArgumentException("Sport cannot be empty");
+
+        Role role = SurveyValidator.lookupRole(data[3]);
+        if (role == null) throw new IllegalArgumentException("Invalid role: " + data[3].trim());
+
+        int skill = SurveyValidator.parseInt(data[4]);
+        if (!SurveyValidator.isValidSkill(skill)) {
+            throw new IllegalArgumentException("skill level must be between "
+                    + SurveyValidator.MIN_SKILL + " and " + SurveyValidator.MAX_SKILL);
+        }
+        int[] responses = new int[validator.getQuestionCount()];
+        for (int q = 0; q < responses.length; q++) {
+            responses[q] = SurveyValidator.parseInt(data[FIXED_FIELDS + q]);   // INVALID fails the range check
+        }
+        if (!validator.isValidResponses(responses)) {
+            throw new IllegalArgumentException("ratings must be between "
+                    + PersonalityModel.MIN_RATING + " and " + PersonalityModel.MAX_RATING);
+        }
+
+        Participant p = new Participant();
+        p.setName(name);
+        p.setEmail(email);
+        p.setPreferredSport(sport);
+        p.setPreferredRole(role);
+        p.setSkillLevel(skill);
+        p.setResponses(responses);
+        return p;
+    }
+}
@@ -1,17 +1,21 @@
 package com.seniru.teambuilder.service;
 
 import com.seniru.teambuilder.model.*;
+import com.seniru.teambuilder.util.ProgressReporter;
 
 
 import java.io.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 public class CSVHandler {
 
-    private static  String filePath = "participants.csv";
+    private String filePath = "participants.csv";
+    private ProgressReporter reporter = ProgressReporter.console();
 
     public CSVHandler() {
         this.filePath = "participants.csv";
@@ -21,6 +25,10 @@ public class CSVHandler {
         this.filePath = filePath;
     }
 
+    public void setReporter(ProgressReporter reporter) {
+        this.reporter = reporter;
+    }
+
     // Save list of participants (overwrite file)
     public void saveAllParticipants(List<Participant> participants) {
         try (FileWriter writer = new FileWriter(filePath)) {
@@ -31,15 +39,15 @@ public class CSVHandler {
                 writer.write(formatParticipant(p) + "\n");
             }
 
-            System.out.println("📁 All participants saved to CSV successfully!");
+            reporter.summary("📁 All participants saved to CSV successfully!");
 
         } catch (IOException e) {
-            System.out.println("❌ Error writing CSV: " + e.getMessage());
+            reporter.error("❌ Error writing CSV: " + e.getMessage());
         }
     }
 
-    // Append only 1 participant (when adding one)
-    public void appendParticipant(Participant p) {
+    // Append only 1 participant (when adding one); returns false if the row could not be written
+    public boolean appendParticipant(Participant p) {
         boolean fileExists = new java.io.File(filePath).exists();
 
         try (FileWriter writer = new FileWriter(filePath, true)) {
@@ -51,10 +59,35 @@ public class CSVHandler {
 
             writer.write(formatParticipant(p) + "\n");
 
-            System.out.println("📁 Participant stored in participants.csv successfully!");
+            reporter.progress("📁 Participant stored in participants.csv successfully!");
+            return true;
+
+        } catch (IOException e) {
+            reporter.error("❌ Error writing CSV: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Append many participants with one open and one buffered write (batch imports); false if the write failed
+    public boolean appendParticipants(List<Participant> participants) {
+        if (participants.isEmpty()) return true;
+        boolean fileExists = new java.io.File(filePath).exists();
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true), 1 << 16)) {
+            if (!fileExists) {
+                writer.write("id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType\n");
+            }
+            for (Participant p : participants) {
+                writer.write(formatParticipant(p));
+                writer.write('\n');
+            }
+
+            reporter.progress("📁 " + participants.size() + " participants stored in " + filePath + " successfully!");
+            return true;
 
         } catch (IOException e) {
-            System.out.println("❌ Error writing CSV: " + e.getMessage());
+            reporter.error("❌ Error writing CSV: " + e.getMessage());
+            return false;
         }
     }
 
@@ -71,14 +104,30 @@ public class CSVHandler {
     }
 
     public List<Participant> loadParticipants(String filePath) {
+        return importParticipants(filePath, DuplicatePolicy.KEEP_ALL).getParticipants();
+    }
+
+    /**
+     * Loads participants, merging rows that share a participant id or email according to the policy.
+     * Duplicates are found through hash indexes built while the file is streamed, in a single pass.
+     */
+    public ImportResult importParticipants(String filePath, DuplicatePolicy policy) {
         List<Participant> participants = new ArrayList<>();
 
         File file = new File(filePath);
         if (!file.exists()) {
-            System.out.println("⚠ No CSV file found. Returning empty list.");
-            return participants;
+            reporter.warn("⚠ No CSV file found. Returning empty list.");
+            return new ImportResult(participants, 0, 0, 0);
         }
 
+        // position in the participants list, keyed by id and by lower-case email
+        Map<String, Integer> indexById = new HashMap<>();
+        Map<String, Integer> indexByEmail = new HashMap<>();
+        int rowsRead = 0;
+        int merged = 0;
+        int invalid = 0;
+        boolean dropped = false;   // LAST_WINS rows removed in place (null) until the file is read
+
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
 
             String line;
@@ -92,58 +141,116 @@ public class CSVHandler {
                     continue;
                 }
 
-                String[] data = line.split(",");
-
-                // must match your CSV format
-                if (data.length != 8) {
-                    System.out.println("⚠ Skipping invalid CSV row: " + line);
+                rowsRead++;
+                Participant p = parseParticipant(line);
+                if (p == null) {
+                    invalid++;
                     continue;
                 }
 
-                Participant p = new Participant();
-
-                p.setParticipantId(data[0]);          // id
-                p.setName(data[1]);                   // name
-                p.setEmail(data[2]);                  // email
-                p.setPreferredSport(data[3]);         // sport
-
-                // Convert preferredRole (String → Enum com.seniru.teambuilder.model.Role)
-                try {
-                    Role role = Role.valueOf(data[5].toUpperCase());
-                    p.setPreferredRole(role);
-                } catch (Exception e) {
-                    System.out.println("⚠ Invalid role in CSV: " + data[5]);
+                if (policy == DuplicatePolicy.KEEP_ALL) {
+                    participants.add(p);
                     continue;
                 }
 
-                p.setSkillLevel(Integer.parseInt(data[4])); // skill level
-                p.setPersonalityScore(Integer.parseInt(data[6])); // personality score
+                String emailKey = emailKey(p);
+                Integer byId = p.getId() == null ? null : indexById.get(p.getId());
+                Integer byEmail = emailKey == null ? null : indexByEmail.get(emailKey);
+                Integer existing = byId != null ? byId : byEmail;
 
-                // Convert personalityType (String → Enum com.seniru.teambuilder.model.PersonalityType)
-                try {
-                    PersonalityType pt = PersonalityType.valueOf(data[7].toUpperCase());
-                    p.setPersonalityType(pt);
-                } catch (Exception e) {
-                    System.out.println("⚠ Invalid personality type in CSV: " + data[6]);
+                if (existing == null) {
+                    int index = participants.size();
+                    participants.add(p);
+                    if (p.getId() != null) indexById.put(p.getId(), index);
+                    if (emailKey != null) indexByEmail.putIfAbsent(emailKey, index);
                     continue;
                 }
 
-                participants.add(p);
+                merged++;
+                if (policy == DuplicatePolicy.LAST_WINS) {
+                    int index = existing;
+                    unindex(participants.set(index, p), index, indexById, indexByEmail);
+                    // The id matched one earlier row and the email another: the replacement stands
+                    // for both, so the email match is dropped rather than left holding the same email
+                    if (byId != null && byEmail != null && !byId.equals(byEmail)) {
+                        unindex(participants.set(byEmail, null), byEmail, indexById, indexByEmail);
+                        dropped = true;
+                        merged++;
+                    }
+                    // point both indexes at the row that now holds the replacement
+                    if (p.getId() != null) indexById.put(p.getId(), index);
+                    if (emailKey != null) indexByEmail.put(emailKey, index);
+                }
             }
+            if (dropped) participants.removeIf(Objects::isNull);
 
         } catch (IOException e) {
-            System.out.println("❌ Error reading CSV: " + e.getMessage());
+            reporter.error("❌ Error reading CSV: " + e.getMessage());
+        }
+
+        reporter.summary("📥 Loaded " + participants.size() + " participants from CSV." +
+                (merged > 0 ? " Merged " + merged + " duplicate rows." : ""));
+        return new ImportResult(participants, rowsRead, merged, invalid);
+    }
+
+    // Same key rule as ParticipantRegistry: trimmed, lower case in the root locale
+    private static String emailKey(Participant p) {
+        return p.getEmail() == null ? null : p.getEmail().trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void unindex(Participant old, int index, Map<String, Integer> indexById,
+                                Map<String, Integer> indexByEmail) {
+        if (old.getId() != null) indexById.remove(old.getId(), index);
+        String emailKey = emailKey(old);
+        if (emailKey != null) indexByEmail.remove(emailKey, index);
+    }
+
+    // Parse one participants.csv row; invalid rows are reported and give null
+    private Participant parseParticipant(String line) {
+        String[] data = line.split(",");
+
+        // must match your CSV format
+        if (data.length != 8) {
+            reporter.warn("⚠ Skipping invalid CSV row: " + line);
+            return null;
+        }
+
+        Participant p = new Participant();
+
+        p.setParticipantId(data[0]);          // id
+        p.setName(data[1]);                   // name
+        p.setEmail(data[2]);                  // email
+        p.setPreferredSport(data[3]);         // sport
+
+        // Convert preferredRole (String → Enum com.seniru.teambuilder.model.Role)
+        try {
+            Role role = Role.valueOf(data[5].toUpperCase());
+            p.setPreferredRole(role);
+        } catch (Exception e) {
+            reporter.warn("⚠ Invalid role in CSV: " + data[5]);
+            return null;
+        }
+
+        p.setSkillLevel(Integer.parseInt(data[4])); // skill level
+        p.setPersonalityScore(Integer.parseInt(data[6])); // personality score
+
+        // Convert personalityType (String → Enum com.seniru.teambuilder.model.PersonalityType)
+        try {
+            PersonalityType pt = PersonalityType.valueOf(data[7].toUpperCase());
+            p.setPersonalityType(pt);
+        } catch (Exception e) {
+            reporter.warn("⚠ Invalid personality type in CSV: " + data[6]);
+            return null;
         }
 
-        System.out.println("📥 Loaded " + participants.size() + " participants from CSV.");
-        return participants;
+        return p;
     }
 
     public List<Team> loadFormedTeams(String filePath) {
         Map<String, Team> teamMap = new HashMap<>();
         File file = new File(filePath);
         if (!file.exists()||file.length() == 0) {
-            System.out.println("\uD83D\uDCED No formed teams found. File empty or missing.");
+            reporter.summary("\uD83D\uDCED No formed teams found. File empty or missing.");
             return new ArrayList<>();
         }
         try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
@@ -163,7 +270,7 @@ public class CSVHandler {
 
                 // must match your CSV format
                 if (data.length != 8) {
-                    System.out.println("⚠ Skipping invalid CSV row: " + line);
+                    reporter.warn("⚠ Skipping invalid CSV row: " + line);
                     continue;
                 }
 
@@ -184,7 +291,7 @@ public class CSVHandler {
                     Role role = Role.valueOf(data[5].toUpperCase());
                     p.setPreferredRole(role);
                 } catch (Exception e) {
-                    System.out.println("⚠ Invalid role in CSV: " + data[5]);
+                    reporter.warn("⚠ Invalid role in CSV: " + data[5]);
                     continue;
                 }
 
@@ -195,7 +302,7 @@ public class CSVHandler {
                     PersonalityType pt = PersonalityType.valueOf(data[7].toUpperCase());
                     p.setPersonalityType(pt);
                 } catch (Exception e) {
-                    System.out.println("⚠ Invalid personality type in CSV: " + data[6]);
+                    reporter.warn("⚠ Invalid personality type in CSV: " + data[6]);
                     continue;
                 }
 
@@ -203,15 +310,21 @@ public class CSVHandler {
             }
 
         } catch (IOException e) {
-            System.out.println("❌ Error reading CSV: " + e.getMessage());
+            reporter.error("❌ Error reading CSV: " + e.getMessage());
         }
 
-        return new ArrayList<>(teamMap.values());
+        // Teams read back from the file are complete
+        List<Team> teams = new ArrayList<>(teamMap.values());
+        teams.forEach(Team::freeze);
+        return teams;
 
     }
 
     public void saveFormedTeams(List<Team> teams) {
-        String fileName = "formedTeams.csv";
+        saveFormedTeams(teams, "formedTeams.csv");
+    }
+
+    public void saveFormedTeams(List<Team> teams, String fileName) {
 
         try (PrintWriter pw = new PrintWriter(new FileWriter(fileName))) {
 
@@ -220,24 +333,22 @@ public class CSVHandler {
 
             // Write each team's members
             for (Team team : teams) {
-                for (Participant p : team.getMembers()) {
-                    pw.printf("%s,%s,%s,%s,%d,%s,%d,%s%n",
-                            team.getID(),
-                            p.getName() ,
-                            p.getEmail() ,
-                            p.getPreferredSport() ,
-                            p.getSkillLevel() ,
-                            p.getPreferredRole() ,
-                            p.getPersonalityScore(),
-                            p.getPersonalityType()
-                    );
-                }
+                team.forEachMember(p -> pw.printf("%s,%s,%s,%s,%d,%s,%d,%s%n",
+                        team.getID(),
+                        p.getName() ,
+                        p.getEmail() ,
+                        p.getPreferredSport() ,
+                        p.getSkillLevel() ,
+                        p.getPreferredRole() ,
+                        p.getPersonalityScore(),
+                        p.getPersonalityType()
+                ));
             }
 
-            System.out.println("📁 formedTeams.csv saved successfully!");
+            reporter.summary("📁 " + fileName + " saved successfully!");
 
         } catch (IOException e) {
-            System.out.println("❌ Error writing formedTeams.csv: " + e.getMessage());
+            reporter.error("❌ Error writing " + fileName + ": " + e.getMessage());
         }
     }
 
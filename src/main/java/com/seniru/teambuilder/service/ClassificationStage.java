@@ -0,0 +1,116 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pipeline stage that sits between ingest and the participant registry.
+ * Every participant still carrying raw survey responses is classified, with the list split
+ * into chunks on a fork-join pool and each chunk fed to PersonalityClassifier.classifyBatch.
+ * Participants that arrive with a pre-computed type (no responses) pass through untouched.
+ */
+public class ClassificationStage {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final PersonalityClassifier classifier;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ClassificationStage() {
+        this(new PersonalityClassifier(), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ClassificationStage(PersonalityClassifier classifier) {
+        this(classifier, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ClassificationStage(PersonalityClassifier classifier, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be >= 1");
+        this.classifier = classifier;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    // Classify a batch in place and hand the same list on to the next stage
+    public List<Participant> process(List<Participant> participants) {
+        if (participants == null || participants.isEmpty()) {
+            return participants;
+        }
+        List<Participant> indexed = participants instanceof RandomAccess
+                ? participants
+                : new ArrayList<>(participants);
+        pool.invoke(new ClassifyChunk(indexed, 0, indexed.size()));
+        return participants;
+    }
+
+    // Single registrations are classified on the caller's thread; a pool hop costs more than the work.
+    // Like a batch, a participant without answers keeps the type it already has.
+    public Participant classify(Participant p) {
+        if (p.getResponses() != null) classifier.classifyParticipant(p);
+        return p;
+    }
+
+    @SuppressWarnings("serial")   // fork-join tasks are never serialized
+    private class ClassifyChunk extends RecursiveAction {
+        private final List<Participant> participants;
+        private final int from;
+        private final int to;
+
+        ClassifyChunk(List<Participant> participants, int from, int to) {
+            this.participants = participants;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                classifyRange(participants, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ClassifyChunk(participants, from, mid),
+                    new ClassifyChunk(participants, mid, to));
+        }
+    }
+
+    private void classifyRange(List<Participant> participants, int from, int to) {
+        int questions = classifier.getQuestionCount();
+
+        // Collect the rows that still need a type; loaded rows keep what the CSV says
+        int[] rows = new int[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (participants.get(i).getResponses() != null) {
+                rows[count++] = i;
+            }
+        }
+        if (count == 0) return;
+
+        // Pack answers into one block; a wrong-length survey stays zero-filled and classifies as invalid
+        int[] block = new int[count * questions];
+        for (int k = 0; k < count; k++) {
+            int[] responses = participants.get(rows[k]).getResponses();
+            if (responses.length == questions) {
+                System.arraycopy(responses, 0, block, k * questions, questions);
+            }
+        }
+
+        int[] scores = new int[count];
+        PersonalityType[] types = new PersonalityType[count];
+        classifier.classifyBatch(block, 0, count, scores, types);
+
+        for (int k = 0; k < count; k++) {
+            Participant p = participants.get(rows[k]);
+            p.setPersonalityScore(scores[k]);
+            p.setPersonalityType(types[k]);
+        }
+    }
+}
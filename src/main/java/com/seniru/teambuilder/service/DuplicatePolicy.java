@@ -0,0 +1,10 @@
+package com.seniru.teambuilder.service;
+
+/**
+ * What to do when an imported row has the same participant id or email as an earlier row.
+ */
+public enum DuplicatePolicy {
+    KEEP_ALL,     // no deduplication, every valid row is kept
+    FIRST_WINS,   // the earliest row is kept, later ones are dropped
+    LAST_WINS     // the latest row replaces the earlier one in its original position
+}
@@ -0,0 +1,57 @@
+package com.seniru.teambuilder.service;
+
+/**
+ * Snapshot of a running team formation, passed to {@link TeamBuilder.FormationListener}.
+ */
+public class FormationProgress {
+
+    private final TeamBuilder.Phase phase;
+    private final int teamsFormed;
+    private final int participantsPlaced;
+    private final int participantsTotal;
+    private final long elapsedNanos;
+
+    public FormationProgress(TeamBuilder.Phase phase, int teamsFormed, int participantsPlaced,
+                             int participantsTotal, long elapsedNanos) {
+        this.phase = phase;
+        this.teamsFormed = teamsFormed;
+        this.participantsPlaced = participantsPlaced;
+        this.participantsTotal = participantsTotal;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public TeamBuilder.Phase getPhase() {
+        return phase;
+    }
+
+    public int getTeamsFormed() {
+        return teamsFormed;
+    }
+
+    public int getParticipantsPlaced() {
+        return participantsPlaced;
+    }
+
+    // Participants eligible for placement (classified, duplicate ids removed)
+    public int getParticipantsTotal() {
+        return participantsTotal;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public double getTeamsPerSecond() {
+        return elapsedNanos == 0 ? 0 : teamsFormed * 1e9 / elapsedNanos;
+    }
+
+    public double getParticipantsPerSecond() {
+        return elapsedNanos == 0 ? 0 : participantsPlaced * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d teams, %d/%d placed, %.1f teams/s", phase, teamsFormed,
+                participantsPlaced, participantsTotal, getTeamsPerSecond());
+    }
+}
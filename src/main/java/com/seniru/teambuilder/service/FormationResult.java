@@ -0,0 +1,47 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.Team;
+
+import java.util.List;
+
+/**
+ * Teams formed within a time budget, plus the participants not yet placed.
+ * An incomplete result can be handed back to {@link TeamBuilder#refine} to continue formation.
+ */
+public class FormationResult {
+
+    private final List<Team> teams;
+    private final List<Participant> unplaced;
+    private final boolean complete;
+    private final long elapsedMillis;
+    final TeamBuilder.FormationRun run;  // state refine() resumes from
+
+    FormationResult(List<Team> teams, List<Participant> unplaced, boolean complete, long elapsedMillis,
+                    TeamBuilder.FormationRun run) {
+        this.teams = teams;
+        this.unplaced = unplaced;
+        this.complete = complete;
+        this.elapsedMillis = elapsedMillis;
+        this.run = run;
+    }
+
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    // Participants in no team, including rows skipped before formation (no personality type, repeated id)
+    public List<Participant> getUnplaced() {
+        return unplaced;
+    }
+
+    // False when the deadline or cancel() stopped formation before every phase finished
+    public boolean isComplete() {
+        return complete;
+    }
+
+    // Total formation time across the original call and any refinements
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,157 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hands out unique participant ids ("P001", "P002", ...) under heavy concurrent registration.
+ * Each stripe owns a block of numbers taken from a shared counter, so threads only touch the
+ * shared counter once per block. Ids are unique across all stripes and increase within a stripe;
+ * with a single stripe they are strictly sequential.
+ */
+public class IdAllocator {
+
+    public static final String DEFAULT_PREFIX = "P";
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    // Range [next, end) of numbers reserved by one stripe
+    private static final class Block {
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+
+    private static final Block EXHAUSTED = new Block(0, 0);
+
+    private final String prefix;
+    private final int blockSize;
+    private final AtomicLong nextBlockStart = new AtomicLong(1);
+    private final AtomicReferenceArray<Block> stripes;
+    private final int stripeMask;
+    private volatile long floor = 1;   // numbers below this were issued before a resume and are skipped
+
+    public IdAllocator() {
+        this(DEFAULT_PREFIX, Runtime.getRuntime().availableProcessors(), DEFAULT_BLOCK_SIZE);
+    }
+
+    public IdAllocator(String prefix, int stripes, int blockSize) {
+        if (prefix == null || prefix.isEmpty()) throw new IllegalArgumentException("Id prefix cannot be empty");
+        if (stripes < 1) throw new IllegalArgumentException("Stripes must be >= 1");
+        if (blockSize < 1) throw new IllegalArgumentException("Block size must be >= 1");
+        this.prefix = prefix;
+        this.blockSize = blockSize;
+        // round the stripe count up to a power of two so a mask picks the stripe
+        int count = Integer.highestOneBit(stripes);
+        if (count < stripes) count <<= 1;
+        this.stripes = new AtomicReferenceArray<>(count);
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            this.stripes.set(i, EXHAUSTED);
+        }
+    }
+
+    public String next() {
+        return format(nextNumber());
+    }
+
+    public long nextNumber() {
+        int index = (int) Thread.currentThread().threadId() & stripeMask;
+        while (true) {
+            Block block = stripes.get(index);
+            long n = block.next.getAndIncrement();
+            if (n < block.end && n >= floor) return n;
+
+            // block used up (or issued before a resume): reserve a fresh one for this stripe
+            long start = nextBlockStart.getAndAdd(blockSize);
+            Block fresh = new Block(start + 1, start + blockSize);
+            if (stripes.compareAndSet(index, block, fresh)) {
+                if (start >= floor) return start;
+            }
+            // another thread refilled the stripe first; the reserved block is simply skipped
+        }
+    }
+
+    /**
+     * Continues numbering after the highest id carrying this allocator's prefix.
+     */
+    public void resumeAfter(List<Participant> participants) {
+        long highest = 0;
+        for (Participant p : participants) {
+            highest = Math.max(highest, parse(p.getId()));
+        }
+        resumeAfter(highest);
+    }
+
+    public void resumeAfter(long highest) {
+        long start = highest + 1;
+        synchronized (this) {
+            // floor first: a block reserved in between is then rejected, not issued below the resume point
+            if (start > floor) floor = start;
+            nextBlockStart.accumulateAndGet(start, Math::max);
+        }
+    }
+
+    // Gives every participant without an id a fresh one; returns how many were assigned
+    public int assignMissing(List<Participant> participants) {
+        int assigned = 0;
+        for (Participant p : participants) {
+            if (p.getId() == null || p.getId().isBlank()) {
+                p.setParticipantId(next());
+                assigned++;
+            }
+        }
+        return assigned;
+    }
+
+    /**
+     * Like assignMissing, but also gives a fresh id to every later participant that reuses an id
+     * with a different email, e.g. legacy rosters where everyone defaulted to P001. A repeat with
+     * the same email keeps its id so it is still recognised as the same person. Call resumeAfter
+     * first so the fresh ids cannot collide. Returns how many ids were assigned.
+     */
+    public int repairIds(List<Participant> participants) {
+        Map<String, String> emailById = new HashMap<>();
+        int assigned = 0;
+        for (Participant p : participants) {
+            String id = p.getId();
+            String email = p.getEmail() == null ? "" : p.getEmail().trim().toLowerCase(Locale.ROOT);
+            if (id == null || id.isBlank()) {
+                p.setParticipantId(next());
+                assigned++;
+                continue;
+            }
+            String firstEmail = emailById.putIfAbsent(id, email);
+            if (firstEmail != null && !firstEmail.equals(email)) {
+                p.setParticipantId(next());
+                assigned++;
+            }
+        }
+        return assigned;
+    }
+
+    public String format(long number) {
+        return String.format("%s%03d", prefix, number);
+    }
+
+    // Numeric part of an id with this prefix, or 0 if the id is not one of ours
+    public long parse(String id) {
+        if (id == null || !id.startsWith(prefix) || id.length() == prefix.length()) return 0;
+        long value = 0;
+        for (int i = prefix.length(); i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9' || value > (Long.MAX_VALUE - 9) / 10) return 0;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,39 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+
+import java.util.List;
+
+/**
+ * Outcome of a participant import: the participants kept plus how many rows were merged or skipped.
+ */
+public class ImportResult {
+
+    private final List<Participant> participants;
+    private final int rowsRead;
+    private final int duplicatesMerged;
+    private final int invalidRows;
+
+    public ImportResult(List<Participant> participants, int rowsRead, int duplicatesMerged, int invalidRows) {
+        this.participants = participants;
+        this.rowsRead = rowsRead;
+        this.duplicatesMerged = duplicatesMerged;
+        this.invalidRows = invalidRows;
+    }
+
+    public List<Participant> getParticipants() {
+        return participants;
+    }
+
+    public int getRowsRead() {
+        return rowsRead;
+    }
+
+    public int getDuplicatesMerged() {
+        return duplicatesMerged;
+    }
+
+    public int getInvalidRows() {
+        return invalidRows;
+    }
+}
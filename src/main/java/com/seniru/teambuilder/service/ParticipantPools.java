@@ -0,0 +1,38 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+
+/**
+ * Pools of ParticipantTable rows per personality type that team-forming threads poll from and
+ * offer rejected rows back to. Role masks use bit r for Role ordinal r, plus one bit for rows
+ * without a role. Polls return {@link #EMPTY} when nothing is available.
+ */
+interface ParticipantPools {
+
+    int EMPTY = -1;
+    int ALL_LANES = (1 << (Role.values().length + 1)) - 1;
+
+    void offer(int row);
+
+    // Any row of the type, without waiting
+    default int poll(PersonalityType type) {
+        return poll(type, ALL_LANES);
+    }
+
+    // A row of the type whose role is in roleMask, without waiting
+    int poll(PersonalityType type, int roleMask);
+
+    /**
+     * Wait up to timeoutMillis for a row of the type, preferring roles in preferredRoles
+     * and falling back to any role.
+     */
+    int poll(PersonalityType type, int preferredRoles, long timeoutMillis) throws InterruptedException;
+
+    int size(PersonalityType type);
+
+    int totalSize();
+
+    // Remove and return every pooled row; only call while no team is being formed
+    int[] drain();
+}
@@ -0,0 +1,181 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registered participants, safe for many concurrent registrations and readers without a global lock.
+ * Appends are a single CAS on an immutable linked list, so snapshot() always sees a consistent
+ * prefix of the registration order. The id, email, sport and personality indexes are filled right
+ * after the append and may briefly lag behind a snapshot taken at the same moment.
+ */
+public final class ParticipantRegistry {
+
+    // Immutable list node; the newest registration is at the head
+    private static final class Node {
+        final Participant participant;
+        final Node next;
+        final int count;
+
+        Node(Participant participant, Node next) {
+            this.participant = participant;
+            this.next = next;
+            this.count = next == null ? 1 : next.count + 1;
+        }
+    }
+
+    // Snapshot together with the head it was built from, so unchanged reads reuse it
+    private static final class Snapshot {
+        final Node head;
+        final List<Participant> list;
+
+        Snapshot(Node head, List<Participant> list) {
+            this.head = head;
+            this.list = list;
+        }
+    }
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+    private volatile Snapshot snapshot = new Snapshot(null, Collections.emptyList());
+    private final Map<String, Participant> byId = new ConcurrentHashMap<>();
+    private final Map<String, Participant> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Participant>> bySport = new ConcurrentHashMap<>();
+    private final Queue<Participant>[] byType;
+
+    public ParticipantRegistry() {
+        @SuppressWarnings({"unchecked", "rawtypes"})   // generic array creation
+        Queue<Participant>[] queues = new Queue[PersonalityType.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+        }
+        byType = queues;
+    }
+
+    public static ParticipantRegistry of(List<Participant> participants) {
+        ParticipantRegistry registry = new ParticipantRegistry();
+        registry.addAll(participants);
+        return registry;
+    }
+
+    /**
+     * Registers a participant. Returns false if a participant with the same id is already registered.
+     */
+    public boolean add(Participant p) {
+        if (p == null) throw new IllegalArgumentException("Participant cannot be null");
+        if (p.getId() != null && byId.putIfAbsent(p.getId(), p) != null) {
+            return false;
+        }
+
+        Node current;
+        Node next;
+        do {
+            current = head.get();
+            next = new Node(p, current);
+        } while (!head.compareAndSet(current, next));
+
+        if (p.getEmail() != null) {
+            byEmail.putIfAbsent(key(p.getEmail()), p);
+        }
+        if (p.getPreferredSport() != null) {
+            bySport.computeIfAbsent(key(p.getPreferredSport()), k -> new ConcurrentLinkedQueue<>()).add(p);
+        }
+        if (p.getPersonalityType() != null) {
+            byType[p.getPersonalityType().ordinal()].add(p);
+        }
+        return true;
+    }
+
+    /**
+     * Like add, but also refuses a participant whose email (case-insensitive) is already registered.
+     * The email is claimed first, so two concurrent sign-ups with one email cannot both succeed.
+     */
+    public boolean addUnique(Participant p) {
+        if (p == null) throw new IllegalArgumentException("Participant cannot be null");
+        String email = p.getEmail() == null ? null : key(p.getEmail());
+        if (email != null && byEmail.putIfAbsent(email, p) != null) {
+            return false;
+        }
+        if (!add(p)) {
+            if (email != null) byEmail.remove(email, p);
+            return false;
+        }
+        return true;
+    }
+
+    // Returns how many participants were added (duplicate ids are skipped)
+    public int addAll(List<Participant> participants) {
+        int added = 0;
+        for (Participant p : participants) {
+            if (add(p)) added++;
+        }
+        return added;
+    }
+
+    /**
+     * Read-only list of everyone registered so far, in registration order.
+     */
+    public List<Participant> snapshot() {
+        Node h = head.get();
+        Snapshot s = snapshot;
+        if (s.head == h) return s.list;
+
+        Participant[] items = new Participant[h.count];
+        int i = items.length;
+        for (Node n = h; n != null; n = n.next) {
+            items[--i] = n.participant;
+        }
+        List<Participant> list = Collections.unmodifiableList(Arrays.asList(items));
+        snapshot = new Snapshot(h, list);
+        return list;
+    }
+
+    public int size() {
+        Node h = head.get();
+        return h == null ? 0 : h.count;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    public Participant findById(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    // Case-insensitive; the first participant registered with the email wins
+    public Participant findByEmail(String email) {
+        return email == null ? null : byEmail.get(key(email));
+    }
+
+    public boolean containsEmail(String email) {
+        return findByEmail(email) != null;
+    }
+
+    public List<Participant> findBySport(String sport) {
+        Queue<Participant> queue = sport == null ? null : bySport.get(key(sport));
+        return queue == null ? Collections.emptyList() : new ArrayList<>(queue);
+    }
+
+    public List<Participant> findByType(PersonalityType type) {
+        return new ArrayList<>(byType[type.ordinal()]);
+    }
+
+    public int countByType(PersonalityType type) {
+        return byType[type.ordinal()].size();
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
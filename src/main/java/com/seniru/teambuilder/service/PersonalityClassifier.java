@@ -1,60 +1,74 @@
 package com.seniru.teambuilder.service;
 
 import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
 import com.seniru.teambuilder.model.PersonalityType;
 
 public class PersonalityClassifier {
 
-  //Validate that the survey contains exactly 5 responses
+    private final PersonalityModel model;
+
+    public PersonalityClassifier() {
+        this(PersonalityModel.defaultModel());
+    }
+
+    public PersonalityClassifier(PersonalityModel model) {
+        this.model = model;
+    }
+
+    public PersonalityModel getModel() {
+        return model;
+    }
+
+    public int getQuestionCount() {
+        return model.getQuestionCount();
+    }
+
+  //Validate that the survey answers every model question (5 by default)
   // and each is between 1 and 5.
     public boolean validateResponses(int[] responses) {
-        if (responses == null || responses.length != 5) {
+        if (responses == null || responses.length != model.getQuestionCount()) {
             return false;
         }
 
         for (int r : responses) {
-            if (r < 1 || r > 5) {
+            if (r < PersonalityModel.MIN_RATING || r > PersonalityModel.MAX_RATING) {
                 return false;
             }
         }
         return true;
     }
 
-    // Compute total score from Q1–Q5
+    // Compute weighted total score from the answers (plain Q1–Q5 sum with the default model)
     public int computeTotalScore(int[] responses) {
         int total = 0;
-        for (int r : responses) {
-            total += r;
+        for (int i = 0; i < responses.length; i++) {
+            total += model.getWeight(i) * responses[i];
         }
         return total;
     }
 
-    // Convert raw score (5–25) to scaled score (20–100)
+    // Convert raw score (5–25 by default) to scaled score (20–100)
     public int computeScaledScore(int totalScore) {
-        return totalScore * 4;
+        return model.scaledScore(totalScore);
     }
 
-    // Determine personality type based on scoring rules
+    // Determine personality type from the model's score bands
     public PersonalityType classifyPersonality(int scaledScore) {
-        if (scaledScore >= 90 && scaledScore <= 100) {
-            return PersonalityType.LEADER;
-        } else if (scaledScore >= 70 && scaledScore <= 89) {
-            return PersonalityType.BALANCED;
-        } else if (scaledScore >= 50 && scaledScore <= 69) {
-            return PersonalityType.THINKER;
-        } else if (scaledScore >= 20 && scaledScore <= 49) {
-            return PersonalityType.ANALYST;
-        } else {
+        PersonalityType type = model.typeForScaledScore(scaledScore);
+        if (type == null) {
             throw new IllegalArgumentException("Invalid personality score");
         }
+        return type;
     }
 
+    // Invalid answers give score 0 and a null type, as in classifyBatch
     public void classifyParticipant(Participant p) {
         int[] responses = p.getResponses();
 
         if (!validateResponses(responses)) {
-//            p.setPersonalityType("Invalid");
             p.setPersonalityScore(0);
+            p.setPersonalityType(null);
             return;
         }
 
@@ -66,6 +80,51 @@ public class PersonalityClassifier {
         p.setPersonalityType(type);
     }
 
+    // Classify a whole block where participant i owns responses[i*q .. i*q+q-1] (q = question count)
+    public int classifyBatch(int[] responses, int[] scores, PersonalityType[] types) {
+        return classifyBatch(responses, 0, scores.length, scores, types);
+    }
 
-}
+    /**
+     * Classify participants fromIndex (inclusive) to toIndex (exclusive) of a packed response block.
+     * Participant i answers in responses[i*q .. i*q+q-1] where q is the model's question count;
+     * its scaled score and type are written to scores[i] and types[i]. Invalid answers give
+     * score 0 and a null type, as in classifyParticipant.
+     * Returns how many participants in the range had valid answers.
+     */
+    public int classifyBatch(int[] responses, int fromIndex, int toIndex, int[] scores, PersonalityType[] types) {
+        if (fromIndex < 0 || toIndex > scores.length || toIndex > types.length || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid batch range " + fromIndex + ".." + toIndex);
+        }
+        int questions = model.getQuestionCount();
+        if (responses.length < toIndex * questions) {
+            throw new IllegalArgumentException("Response block too short for " + toIndex + " participants");
+        }
+
+        int[] weights = new int[questions];
+        for (int q = 0; q < questions; q++) {
+            weights[q] = model.getWeight(q);
+        }
 
+        int valid = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            int base = i * questions;
+            int total = 0;
+            boolean inRange = true;
+            for (int q = 0; q < questions; q++) {
+                int r = responses[base + q];
+                inRange &= r >= PersonalityModel.MIN_RATING && r <= PersonalityModel.MAX_RATING;
+                total += weights[q] * r;
+            }
+            if (inRange) {
+                scores[i] = model.scaledScoreAt(total);
+                types[i] = model.typeAt(total);
+                valid++;
+            } else {
+                scores[i] = 0;
+                types[i] = null;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,176 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One pool of ParticipantTable rows per personality type, indexed by enum ordinal and split into
+ * a lane per preferred role, so a team can ask for a participant whose role it is still missing.
+ * Role masks use bit r for Role ordinal r; rows without a role sit in an extra lane.
+ * Each type has a semaphore holding one permit per pooled row, which lets timed polls wait on
+ * all of the type's lanes at once. Polls return -1 when nothing is available.
+ * Shared by all team-forming threads of a TeamBuilder run.
+ */
+class PersonalityPools implements ParticipantPools {
+
+    private static final int ROLE_COUNT = Role.values().length;
+    private static final int NO_ROLE_LANE = ROLE_COUNT;
+
+    private final ParticipantTable table;
+    private final IntLane[][] lanes;     // [type ordinal][role ordinal or NO_ROLE_LANE]
+    private final Semaphore[] available; // [type ordinal]
+
+    PersonalityPools(ParticipantTable table) {
+        this.table = table;
+        int types = PersonalityType.values().length;
+        lanes = new IntLane[types][ROLE_COUNT + 1];
+        available = new Semaphore[types];
+        for (int t = 0; t < types; t++) {
+            for (int r = 0; r <= ROLE_COUNT; r++) {
+                lanes[t][r] = new IntLane();
+            }
+            available[t] = new Semaphore(0);
+        }
+    }
+
+    @Override
+    public void offer(int row) {
+        int t = table.typeOrdinal(row);
+        lanes[t][laneOf(row)].offer(row);
+        available[t].release();
+    }
+
+    @Override
+    public int poll(PersonalityType type, int roleMask) {
+        int t = type.ordinal();
+        if (!available[t].tryAcquire()) return EMPTY;
+        int row = takeFromLanes(t, roleMask);
+        if (row == EMPTY) {
+            available[t].release();   // nothing in the requested lanes; the permit belongs to another lane
+        }
+        return row;
+    }
+
+    @Override
+    public int poll(PersonalityType type, int preferredRoles, long timeoutMillis) throws InterruptedException {
+        int t = type.ordinal();
+        if (!available[t].tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) return EMPTY;
+
+        // Holding a permit guarantees a row in some lane; retry if a concurrent poller beat us to it
+        while (true) {
+            int row = takeFromLanes(t, preferredRoles);
+            if (row == EMPTY) row = takeFromLanes(t, ALL_LANES);
+            if (row != EMPTY) return row;
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public int size(PersonalityType type) {
+        return available[type.ordinal()].availablePermits();
+    }
+
+    @Override
+    public int totalSize() {
+        int total = 0;
+        for (Semaphore s : available) {
+            total += s.availablePermits();
+        }
+        return total;
+    }
+
+    @Override
+    public int[] drain() {
+        int[] drained = new int[totalSize()];
+        int count = 0;
+        for (int t = 0; t < lanes.length; t++) {
+            available[t].drainPermits();
+            for (IntLane lane : lanes[t]) {
+                for (int row = lane.poll(); row != EMPTY; row = lane.poll()) {
+                    if (count == drained.length) drained = Arrays.copyOf(drained, count * 2 + 1);
+                    drained[count++] = row;
+                }
+            }
+        }
+        return count == drained.length ? drained : Arrays.copyOf(drained, count);
+    }
+
+    /**
+     * Poll the lane in roleMask whose role is most plentiful across all types, leaving scarce roles
+     * for the teams still to be formed. Ties go to the lower role ordinal.
+     */
+    private int takeFromLanes(int t, int roleMask) {
+        IntLane[] typeLanes = lanes[t];
+        int remainingMask = roleMask & ALL_LANES;
+        while (remainingMask != 0) {
+            int bestLane = -1;
+            int bestSupply = 0;
+            for (int mask = remainingMask; mask != 0; mask &= mask - 1) {
+                int r = Integer.numberOfTrailingZeros(mask);
+                if (typeLanes[r].size() == 0) continue;
+                int supply = roleSupply(r);
+                if (supply > bestSupply) {
+                    bestSupply = supply;
+                    bestLane = r;
+                }
+            }
+            if (bestLane < 0) return EMPTY;
+            int row = typeLanes[bestLane].poll();
+            if (row != EMPTY) return row;
+            remainingMask &= ~(1 << bestLane);   // emptied under us; try the next lane
+        }
+        return EMPTY;
+    }
+
+    private int roleSupply(int lane) {
+        int supply = 0;
+        for (IntLane[] typeLanes : lanes) {
+            supply += typeLanes[lane].size();
+        }
+        return supply;
+    }
+
+    private int laneOf(int row) {
+        int role = table.roleOrdinal(row);
+        return role == ParticipantTable.NONE ? NO_ROLE_LANE : role;
+    }
+
+    /**
+     * FIFO ring buffer of rows; size is readable without the lock for the supply heuristic.
+     */
+    private static final class IntLane {
+        private int[] items = new int[16];
+        private int head;
+        private volatile int size;
+
+        synchronized void offer(int row) {
+            if (size == items.length) {
+                int[] grown = new int[items.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = items[(head + i) % items.length];
+                }
+                items = grown;
+                head = 0;
+            }
+            items[(head + size) % items.length] = row;
+            size++;
+        }
+
+        synchronized int poll() {
+            if (size == 0) return EMPTY;
+            int row = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return row;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
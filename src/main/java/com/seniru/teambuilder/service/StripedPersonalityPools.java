@@ -0,0 +1,269 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-worker alternative to PersonalityPools: one stripe per worker thread, each holding its own
+ * role lanes for every personality type. A worker polls and offers back on its own stripe, so
+ * the usual claim and the return after a failed constraint check are uncontended and a rejected
+ * row stays with the thread that rejected it. Only when its stripe has nothing suitable does a
+ * worker steal half of the matching rows of another stripe.
+ * A thread gets its stripe on its first poll; rows offered by any other thread are dealt
+ * round-robin across the stripes.
+ */
+class StripedPersonalityPools implements ParticipantPools {
+
+    private static final int TYPE_COUNT = PersonalityType.values().length;
+    private static final int ROLE_COUNT = Role.values().length;
+    private static final int NO_ROLE_LANE = ROLE_COUNT;
+    // Backoff while a timed poll waits for another worker to offer a row
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ParticipantTable table;
+    private final Stripe[] stripes;
+    private final ThreadLocal<Stripe> home = new ThreadLocal<>();
+    private final AtomicInteger nextHome = new AtomicInteger();
+    private final AtomicInteger dealCursor = new AtomicInteger();
+
+    StripedPersonalityPools(ParticipantTable table, int stripeCount) {
+        if (stripeCount < 1) throw new IllegalArgumentException("Stripe count must be >= 1");
+        this.table = table;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i);
+        }
+    }
+
+    @Override
+    public void offer(int row) {
+        Stripe stripe = home.get();
+        if (stripe == null) {
+            stripe = stripes[Math.floorMod(dealCursor.getAndIncrement(), stripes.length)];
+        }
+        stripe.offer(table.typeOrdinal(row), laneOf(row), row);
+    }
+
+    @Override
+    public int poll(PersonalityType type, int roleMask) {
+        int t = type.ordinal();
+        Stripe own = ownStripe();
+        int row = own.takeOldest(t, roleMask);
+        return row != EMPTY ? row : steal(own, t, roleMask);
+    }
+
+    @Override
+    public int poll(PersonalityType type, int preferredRoles, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        long park = MIN_PARK_NANOS;
+        while (true) {
+            int row = poll(type, preferredRoles);
+            if (row == EMPTY) row = poll(type, ALL_LANES);
+            if (row != EMPTY) return row;
+
+            long left = deadline - System.nanoTime();
+            if (left <= 0) return EMPTY;
+            LockSupport.parkNanos(Math.min(park, left));
+            if (Thread.interrupted()) throw new InterruptedException();
+            park = Math.min(park * 2, MAX_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public int size(PersonalityType type) {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.size(type.ordinal());
+        }
+        return total;
+    }
+
+    @Override
+    public int totalSize() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.totalSize();
+        }
+        return total;
+    }
+
+    @Override
+    public int[] drain() {
+        int[] drained = new int[0];
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            int[] rows = stripe.drain();
+            if (count + rows.length > drained.length) drained = Arrays.copyOf(drained, count + rows.length);
+            System.arraycopy(rows, 0, drained, count, rows.length);
+            count += rows.length;
+        }
+        return drained;
+    }
+
+    private Stripe ownStripe() {
+        Stripe stripe = home.get();
+        if (stripe == null) {
+            stripe = stripes[Math.floorMod(nextHome.getAndIncrement(), stripes.length)];
+            home.set(stripe);
+        }
+        return stripe;
+    }
+
+    /**
+     * Take half of the matching rows of the first other stripe that has any, keep the first and
+     * move the rest to our own stripe. The victim's lock is released before we lock our own.
+     * Thieves take the newest rows, which are often ones the victim just offered back as unfit.
+     */
+    private int steal(Stripe own, int t, int roleMask) {
+        for (int i = 1; i < stripes.length; i++) {
+            Stripe victim = stripes[(own.index + i) % stripes.length];
+            int[] batch = victim.takeNewestHalf(t, roleMask);
+            if (batch.length == 0) continue;
+            for (int k = 1; k < batch.length; k++) {
+                own.offer(t, laneOf(batch[k]), batch[k]);
+            }
+            return batch[0];
+        }
+        return EMPTY;
+    }
+
+    private int laneOf(int row) {
+        int role = table.roleOrdinal(row);
+        return role == ParticipantTable.NONE ? NO_ROLE_LANE : role;
+    }
+
+    /**
+     * One worker's rows: a deque per [type][role lane], guarded by the stripe's monitor. The owner
+     * takes from the oldest end, so a row it offers back is not handed straight to it again, and
+     * thieves take from the newest end.
+     */
+    private static final class Stripe {
+        final int index;
+        private final IntDeque[][] lanes = new IntDeque[TYPE_COUNT][ROLE_COUNT + 1];
+        private final int[] sizeByType = new int[TYPE_COUNT];
+
+        Stripe(int index) {
+            this.index = index;
+            for (IntDeque[] typeLanes : lanes) {
+                for (int r = 0; r < typeLanes.length; r++) {
+                    typeLanes[r] = new IntDeque();
+                }
+            }
+        }
+
+        synchronized void offer(int t, int lane, int row) {
+            lanes[t][lane].addLast(row);
+            sizeByType[t]++;
+        }
+
+        // Oldest row from the lane in roleMask whose role this stripe holds most of, across all types
+        synchronized int takeOldest(int t, int roleMask) {
+            if (sizeByType[t] == 0) return EMPTY;
+            int bestLane = -1;
+            int bestSupply = 0;
+            for (int mask = roleMask & ALL_LANES; mask != 0; mask &= mask - 1) {
+                int r = Integer.numberOfTrailingZeros(mask);
+                if (lanes[t][r].size() == 0) continue;
+                int supply = 0;
+                for (IntDeque[] typeLanes : lanes) {
+                    supply += typeLanes[r].size();
+                }
+                if (supply > bestSupply) {
+                    bestSupply = supply;
+                    bestLane = r;
+                }
+            }
+            if (bestLane < 0) return EMPTY;
+            sizeByType[t]--;
+            return lanes[t][bestLane].pollFirst();
+        }
+
+        synchronized int[] takeNewestHalf(int t, int roleMask) {
+            if (sizeByType[t] == 0) return new int[0];
+            int matching = 0;
+            for (int mask = roleMask & ALL_LANES; mask != 0; mask &= mask - 1) {
+                matching += lanes[t][Integer.numberOfTrailingZeros(mask)].size();
+            }
+            int[] batch = new int[(matching + 1) / 2];
+            int taken = 0;
+            for (int mask = roleMask & ALL_LANES; mask != 0 && taken < batch.length; mask &= mask - 1) {
+                IntDeque lane = lanes[t][Integer.numberOfTrailingZeros(mask)];
+                int share = Math.min(lane.size(), batch.length - taken);
+                for (int k = 0; k < share; k++) {
+                    batch[taken++] = lane.pollLast();
+                }
+            }
+            sizeByType[t] -= taken;
+            return batch;
+        }
+
+        synchronized int size(int t) {
+            return sizeByType[t];
+        }
+
+        synchronized int totalSize() {
+            int total = 0;
+            for (int size : sizeByType) {
+                total += size;
+            }
+            return total;
+        }
+
+        synchronized int[] drain() {
+            int[] rows = new int[totalSize()];
+            int count = 0;
+            for (IntDeque[] typeLanes : lanes) {
+                for (IntDeque lane : typeLanes) {
+                    while (lane.size() > 0) {
+                        rows[count++] = lane.pollFirst();
+                    }
+                }
+            }
+            Arrays.fill(sizeByType, 0);
+            return rows;
+        }
+    }
+
+    // Growable ring buffer of rows; callers hold the stripe's monitor
+    private static final class IntDeque {
+        private int[] items = new int[8];
+        private int head;
+        private int size;
+
+        void addLast(int row) {
+            if (size == items.length) {
+                int[] grown = new int[items.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = items[(head + i) % items.length];
+                }
+                items = grown;
+                head = 0;
+            }
+            items[(head + size) % items.length] = row;
+            size++;
+        }
+
+        int pollFirst() {
+            int row = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return row;
+        }
+
+        int pollLast() {
+            size--;
+            return items[(head + size) % items.length];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
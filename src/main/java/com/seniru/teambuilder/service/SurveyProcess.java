@@ -2,20 +2,37 @@ package com.seniru.teambuilder.service;
 
 import com.seniru.teambuilder.exception.SurveyException;
 import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
 import com.seniru.teambuilder.model.Role;
 
 import java.util.Scanner;
 
 public class SurveyProcess {
     private Scanner scanner;
+    private final PersonalityModel model;
+    private IdAllocator idAllocator;
     private static final int maxAttempts = 3;
 
     public SurveyProcess() {
-        this.scanner = new Scanner(System.in);
+        this(new Scanner(System.in));
+    }
+
+    public SurveyProcess(PersonalityModel model) {
+        this(new Scanner(System.in), model);
     }
 
     public SurveyProcess(Scanner scanner) {
+        this(scanner, PersonalityModel.defaultModel());
+    }
+
+    public SurveyProcess(Scanner scanner, PersonalityModel model) {
         this.scanner = scanner;
+        this.model = model;
+    }
+
+    // When set, every completed survey gets the next participant id
+    public void setIdAllocator(IdAllocator idAllocator) {
+        this.idAllocator = idAllocator;
     }
 
     public Participant conductSurvey() throws SurveyException {
@@ -28,13 +45,14 @@ public class SurveyProcess {
             Role role = readRole();
             int skillLevel = readSkillLevel();
 
-            // Now ask 5 personality questions
-            System.out.println("\n---- 5-Question Personality Survey ----");
+            // Now ask the model's personality questions (5 by default)
+            System.out.println("\n---- " + model.getQuestionCount() + "-Question Personality Survey ----");
 
             int[] responses = readPersonalityResponses();
 
             // Create and return participant
             Participant p = new Participant();
+            if (idAllocator != null) p.setParticipantId(idAllocator.next());
             p.setName(name);
             p.setEmail(email);
             p.setPreferredSport(sport);
@@ -87,9 +105,7 @@ public class SurveyProcess {
     }
 
     private boolean isValidEmail(String email) {
-        // Basic email validation pattern
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        return email.matches(emailRegex);
+        return SurveyValidator.isValidEmail(email);
     }
 
     private String readSport() throws SurveyException {
@@ -122,13 +138,8 @@ public class SurveyProcess {
                     throw new IllegalArgumentException("Role cannot be empty");
                 }
 
-                // Try to match with enum values ignoring case
-                for (Role r : Role.values()) {
-                    if (r.name().equalsIgnoreCase(input)) {
-                        role = r;
-                        break;
-                    }
-                }
+                // Match with enum values ignoring case
+                role = SurveyValidator.lookupRole(input);
 
                 if (role == null) {
                     attempts++;
@@ -154,23 +165,16 @@ public class SurveyProcess {
     }
 
     private int readSkillLevel() throws SurveyException {
-        System.out.print("Enter Skill Level (1-10): ");
-        return readNumberInRange(1, 10, "skill level");
+        System.out.print("Enter Skill Level (" + SurveyValidator.MIN_SKILL + "-" + SurveyValidator.MAX_SKILL + "): ");
+        return readNumberInRange(SurveyValidator.MIN_SKILL, SurveyValidator.MAX_SKILL, "skill level");
     }
 
     private int[] readPersonalityResponses() throws SurveyException {
-        int[] responses = new int[5];
-        String[] questions = {
-                "I enjoy taking the lead and guiding others.",
-                "I prefer analyzing situations.",
-                "I work well with others.",
-                "I am calm under pressure.",
-                "I make quick decisions."
-        };
-
-        for (int i = 0; i < questions.length; i++) {
+        int[] responses = new int[model.getQuestionCount()];
+
+        for (int i = 0; i < responses.length; i++) {
             try {
-                responses[i] = askQuestion(questions[i], i + 1);
+                responses[i] = askQuestion(model.getQuestion(i), i + 1);
             } catch (Exception e) {
                 throw new SurveyException("Error reading question " + (i + 1) + ": " + e.getMessage(), e);
             }
@@ -181,8 +185,9 @@ public class SurveyProcess {
 
     private int askQuestion(String question, int questionNumber) throws SurveyException {
         System.out.println("Question " + questionNumber + ": " + question);
-        System.out.print("Rate (1-5): ");
-        return readNumberInRange(1, 5, "rating for question " + questionNumber);
+        System.out.print("Rate (" + PersonalityModel.MIN_RATING + "-" + PersonalityModel.MAX_RATING + "): ");
+        return readNumberInRange(PersonalityModel.MIN_RATING, PersonalityModel.MAX_RATING,
+                "rating for question " + questionNumber);
     }
 
     private int readNumberInRange(int min, int max, String fieldName) throws SurveyException {
@@ -0,0 +1,100 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.Role;
+
+import java.util.regex.Pattern;
+
+/**
+ * Field checks for survey records, shared by the interactive SurveyProcess and BatchSurveyImporter.
+ * The email pattern is compiled once and roles are matched against a static table, so bulk
+ * validation does not recompile regexes or copy Role.values() per record.
+ */
+public final class SurveyValidator {
+
+    public static final int MIN_SKILL = 1;
+    public static final int MAX_SKILL = 10;
+    public static final int INVALID = Integer.MIN_VALUE;   // parseInt result for text that is not a number
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Role[] ROLES = Role.values();
+
+    private final PersonalityModel model;
+
+    public SurveyValidator() {
+        this(PersonalityModel.defaultModel());
+    }
+
+    public SurveyValidator(PersonalityModel model) {
+        this.model = model;
+    }
+
+    public int getQuestionCount() {
+        return model.getQuestionCount();
+    }
+
+    public static boolean isValidEmail(String email) {
+        return email != null && EMAIL.matcher(email).matches();
+    }
+
+    // Case-insensitive role match ignoring surrounding whitespace; null if nothing matches
+    public static Role lookupRole(String text) {
+        if (text == null) return null;
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        int length = end - start;
+
+        for (Role role : ROLES) {
+            String name = role.name();
+            if (name.length() == length && text.regionMatches(true, start, name, 0, length)) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+    // Free text stored as one unquoted CSV field: no separator and no line break
+    public static boolean isCsvSafe(String text) {
+        return text != null && text.indexOf(',') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0;
+    }
+
+    public static boolean isValidSkill(int skill) {
+        return skill >= MIN_SKILL && skill <= MAX_SKILL;
+    }
+
+    public static boolean isValidRating(int rating) {
+        return rating >= PersonalityModel.MIN_RATING && rating <= PersonalityModel.MAX_RATING;
+    }
+
+    // One rating per model question, each within the rating scale
+    public boolean isValidResponses(int[] responses) {
+        if (responses == null || responses.length != model.getQuestionCount()) return false;
+        for (int r : responses) {
+            if (!isValidRating(r)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a non-negative decimal integer, ignoring surrounding whitespace. Returns INVALID
+     * instead of throwing, so bad bulk input does not pay for an exception per field.
+     */
+    public static int parseInt(String text) {
+        if (text == null) return INVALID;
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        if (start == end || end - start > 9) return INVALID;
+
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') return INVALID;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
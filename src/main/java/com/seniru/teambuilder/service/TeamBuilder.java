@@ -1,14 +1,17 @@
 package com.seniru.teambuilder.service;
 
 import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.ParticipantTable;
 import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
 import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.util.AtomicBitSet;
+import com.seniru.teambuilder.util.ProgressReporter;
 import com.seniru.teambuilder.util.TeamBuilderLogger;
 
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * Builds balanced teams using the matching algorithm with full concurrency support.
@@ -16,11 +19,76 @@ import java.util.stream.Collectors;
  * and skill balance.
  */
 public class TeamBuilder {
+    private static final PersonalityType[] TYPES = PersonalityType.values();
+    // Members a formed team may take beyond teamSize when leftovers are distributed
+    private static final int MAX_OVERFLOW = 2;
+    // A PARTITIONED shard holds at least this many teams' worth of participants
+    private static final int MIN_TEAMS_PER_SHARD = 16;
+    // Order in which free slots are topped up once a team has its required members
+    private static final PersonalityType[] FILL_ORDER = {
+            PersonalityType.BALANCED, PersonalityType.ANALYST, PersonalityType.THINKER, PersonalityType.LEADER
+    };
+    // Fit-score bonus for a type the team still has quota for, indexed by ordinal
+    private static final int[] FIT_BONUS = new int[TYPES.length];
+    static {
+        FIT_BONUS[PersonalityType.LEADER.ordinal()] = 25;
+        FIT_BONUS[PersonalityType.THINKER.ordinal()] = 20;
+        FIT_BONUS[PersonalityType.BALANCED.ordinal()] = 15;
+        FIT_BONUS[PersonalityType.ANALYST.ordinal()] = 15;
+    }
+
     private final int teamSize;
     private final int maxSameGame;        // Max players from same game per team
     private final int minRoles;           // Minimum role diversity required
+    private final int requiredRoles;      // minRoles capped at what a team can actually hold
+    private final int allRolesMask;       // one bit per Role ordinal
     private final Random random;
+    // Personality quotas per team, indexed by PersonalityType ordinal
+    private final int[] minPerType = new int[TYPES.length];
+    private final int[] maxPerType = new int[TYPES.length];
+    private final int[] flexibleMaxPerType = new int[TYPES.length];
     private TeamBuilderLogger logger = new TeamBuilderLogger("teamBuilder_log.txt");
+    private ProgressReporter reporter = ProgressReporter.console();
+    private FlexiblePhaseDecider flexibleDecider;   // null: ask on the console, or NEVER (see deciderFor)
+    private Scanner consoleInput;                    // answers to the console question, opened on first use
+    private int maxThreads = Runtime.getRuntime().availableProcessors();
+    private volatile FormationControl activeControl;  // formation in progress, for cancel()
+    private volatile FormationRun currentRun;          // formation in progress or last stopped, for getPartialTeams()
+    private volatile List<Team> finishedTeams = Collections.emptyList();  // teams of the last completed run
+    private volatile FormationListener listener;
+    private FormationMode formationMode = FormationMode.SHARED_POOLS;
+
+    /**
+     * Decides whether leftovers after the strict phase should be tried in relaxed (flexible) teams.
+     * Receives the leftover count per personality type, indexed by ordinal.
+     */
+    @FunctionalInterface
+    public interface FlexiblePhaseDecider {
+        FlexiblePhaseDecider ALWAYS = remainingByType -> true;
+        FlexiblePhaseDecider NEVER = remainingByType -> false;
+
+        boolean formFlexibleTeams(int[] remainingByType);
+    }
+
+    /**
+     * How a phase spreads work over threads. SHARED_POOLS runs one task per team against pools
+     * shared by every thread. PARTITIONED deals the participants into shards stratified by
+     * personality type and sport, forms teams inside each shard on a ForkJoinPool with no
+     * contention between shards, and only then tries the pooled leftovers together.
+     * STRIPED_POOLS schedules like SHARED_POOLS but gives every worker its own stripe of the
+     * pools, stealing from other workers only when its stripe runs short.
+     */
+    public enum FormationMode { SHARED_POOLS, PARTITIONED, STRIPED_POOLS }
+
+    /**
+     * Notified when a phase starts, each time a team is formed, and when formation completes or
+     * stops. Called from the formation threads, so implementations must be thread-safe and quick;
+     * calling {@link #cancel()} from here stops the formation early.
+     */
+    @FunctionalInterface
+    public interface FormationListener {
+        void onProgress(FormationProgress progress);
+    }
 
     // Constructor with defaults
     public TeamBuilder(int teamSize) {
@@ -36,9 +104,89 @@ public class TeamBuilder {
         this.teamSize = teamSize;
         this.maxSameGame = maxSameGame;
         this.minRoles = minRoles;
+        this.requiredRoles = Math.min(minRoles, Math.min(teamSize, Role.values().length));
+        this.allRolesMask = (1 << Role.values().length) - 1;
         this.random = new Random();
-        logger.log("INFO", "TeamBuilder initialized: teamSize=" + teamSize +
-                ", maxSameGame=" + maxSameGame + ", minRoles=" + minRoles);
+
+        // Default quotas: exactly one leader, 1–2 thinkers, up to 2 analysts, balanced fill the rest
+        applyQuota(PersonalityType.LEADER, 1, 1);
+        applyQuota(PersonalityType.THINKER, 1, 2);
+        applyQuota(PersonalityType.BALANCED, 0, teamSize);
+        applyQuota(PersonalityType.ANALYST, 0, Math.min(2, teamSize));
+    }
+
+    public void setReporter(ProgressReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    // The interactive menu passes its own Scanner, so two readers never buffer the same stdin
+    public void setConsoleInput(Scanner consoleInput) {
+        if (consoleInput == null) throw new IllegalArgumentException("Console input cannot be null");
+        this.consoleInput = consoleInput;
+    }
+
+    // TeamBuilderLogger.disabled() keeps formation off the file system (benchmarks, load tests)
+    public void setLogger(TeamBuilderLogger logger) {
+        if (logger == null) throw new IllegalArgumentException("Logger cannot be null");
+        this.logger = logger;
+    }
+
+    // Upper bound on formation threads (defaults to the processor count)
+    public void setMaxThreads(int maxThreads) {
+        if (maxThreads < 1) throw new IllegalArgumentException("Max threads must be >= 1");
+        this.maxThreads = maxThreads;
+    }
+
+    public void setFormationMode(FormationMode formationMode) {
+        if (formationMode == null) throw new IllegalArgumentException("Formation mode cannot be null");
+        this.formationMode = formationMode;
+    }
+
+    public void setFormationListener(FormationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Non-interactive callers (HTTP API, batch runs) replace the console question. Without one,
+     * unbounded formation with the console reporter asks on the console; budgeted formation, or
+     * one whose reporter would hide the question, skips flexible teams.
+     */
+    public void setFlexiblePhaseDecider(FlexiblePhaseDecider flexibleDecider) {
+        this.flexibleDecider = flexibleDecider;
+    }
+
+    /**
+     * Set how many members of a personality type every team needs (min) and may hold (max).
+     * Flexible teams keep these quotas except that they may take several leaders.
+     */
+    public void setPersonalityQuota(PersonalityType type, int min, int max) {
+        if (min < 0 || max < min || max > teamSize) {
+            throw new IllegalArgumentException("Invalid quota for " + type + ": " + min + "-" + max);
+        }
+        int otherMinimums = 0;
+        for (PersonalityType t : TYPES) {
+            if (t != type) otherMinimums += minPerType[t.ordinal()];
+        }
+        if (otherMinimums + min > teamSize) {
+            throw new IllegalArgumentException("Personality minimums exceed team size " + teamSize);
+        }
+        applyQuota(type, min, max);
+    }
+
+    // Private so the constructor can set the defaults without calling an overridable method
+    private void applyQuota(PersonalityType type, int min, int max) {
+        int t = type.ordinal();
+        minPerType[t] = min;
+        maxPerType[t] = max;
+        flexibleMaxPerType[t] = type == PersonalityType.LEADER ? teamSize : max;
+    }
+
+    public int getMinPerType(PersonalityType type) {
+        return minPerType[type.ordinal()];
+    }
+
+    public int getMaxPerType(PersonalityType type) {
+        return maxPerType[type.ordinal()];
     }
 
     /**
@@ -48,322 +196,602 @@ public class TeamBuilder {
     public List<Team> buildTeamsWithConcurrency(List<Participant> participants)
             throws InterruptedException, ExecutionException {
 
-        logger.log("INFO", "Starting concurrent team building with " + participants.size() + " participants");
+        if (participants == null || participants.isEmpty()) {
+            throw new IllegalArgumentException("Participant list cannot be empty");
+        }
+        return buildTeamsWithConcurrency(ParticipantTable.of(participants));
+    }
+
+    /**
+     * Build teams straight from a columnar participant table; formation works on table rows
+     * and only materialises Participant objects for the finished teams.
+     */
+    public List<Team> buildTeamsWithConcurrency(ParticipantTable table)
+            throws InterruptedException, ExecutionException {
+
+        if (table == null || table.size() == 0) {
+            throw new IllegalArgumentException("Participant list cannot be empty");
+        }
+        return advance(startRun(table), new FormationControl(-1)).getTeams();
+    }
+
+    /**
+     * Anytime formation: return the teams formed once the budget runs out, with everyone not
+     * yet placed reported. Teams still being formed at the deadline hand their members back.
+     */
+    public FormationResult buildTeams(List<Participant> participants, long budgetMillis)
+            throws InterruptedException {
 
         if (participants == null || participants.isEmpty()) {
             throw new IllegalArgumentException("Participant list cannot be empty");
         }
+        return buildTeams(ParticipantTable.of(participants), budgetMillis);
+    }
+
+    public FormationResult buildTeams(ParticipantTable table, long budgetMillis) throws InterruptedException {
+        if (table == null || table.size() == 0) {
+            throw new IllegalArgumentException("Participant list cannot be empty");
+        }
+        if (budgetMillis < 0) throw new IllegalArgumentException("Budget must be >= 0");
+        return advance(startRun(table), new FormationControl(budgetMillis));
+    }
+
+    /**
+     * Continue an incomplete result for up to moreMillis; teams already formed are kept.
+     * A complete result is returned as is.
+     */
+    public FormationResult refine(FormationResult previous, long moreMillis) throws InterruptedException {
+        if (previous == null || previous.run == null || previous.run.owner != this) {
+            throw new IllegalArgumentException("Result was not produced by this builder");
+        }
+        if (moreMillis < 0) throw new IllegalArgumentException("Budget must be >= 0");
+        if (previous.isComplete()) return previous;
+        return advance(previous.run, new FormationControl(moreMillis));
+    }
+
+    // Cooperatively stop the formation in progress; in-flight teams return their members
+    public void cancel() {
+        FormationControl control = activeControl;
+        if (control != null) control.stop();
+    }
+
+    /**
+     * Teams formed so far by the formation in progress (or the last one), as a snapshot.
+     * Teams only appear once complete, so every team in the list is valid.
+     */
+    public List<Team> getPartialTeams() {
+        FormationRun run = currentRun;
+        return run == null ? finishedTeams : materialise(run);
+    }
+
+    /**
+     * Everything a formation needs to carry over between buildTeams and refine calls.
+     */
+    static final class FormationRun {
+        final TeamBuilder owner;
+        final ParticipantTable table;
+        final int[] eligibleRows;
+        final int[] skippedRows;  // unclassified or repeating an earlier id; reported as unplaced
+        final ParticipantPools pools;
+        // Rows currently placed in a team; claiming is one CAS, so double placement is caught in O(1)
+        final AtomicBitSet assigned;
+        final List<TeamDraft> drafts = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger teamCounter = new AtomicInteger(1);
+        final AtomicInteger placed = new AtomicInteger();
+        volatile Phase phase = Phase.STRICT;
+        Boolean flexibleChosen;  // asked once, on the first run to reach the flexible phase
+        long elapsedNanos;       // time spent in finished buildTeams/refine calls
+        volatile long advanceStart;
+
+        FormationRun(TeamBuilder owner, ParticipantTable table, int[] eligibleRows, ParticipantPools pools) {
+            this.owner = owner;
+            this.table = table;
+            this.eligibleRows = eligibleRows;
+            boolean[] eligible = new boolean[table.size()];
+            for (int row : eligibleRows) {
+                eligible[row] = true;
+            }
+            int[] skipped = new int[table.size() - eligibleRows.length];
+            for (int row = 0, k = 0; row < eligible.length; row++) {
+                if (!eligible[row]) skipped[k++] = row;
+            }
+            this.skippedRows = skipped;
+            this.pools = pools;
+            this.assigned = new AtomicBitSet(table.size());
+        }
+    }
+
+    // Formation phases in the order they run
+    public enum Phase { STRICT, FLEXIBLE, DISTRIBUTE, DONE }
+
+    // Deadline and stop flag shared by the formation threads of one buildTeams/refine call
+    private static final class FormationControl {
+        private final long deadline;      // System.nanoTime() value, unused when unbounded
+        private final boolean bounded;
+        private volatile boolean stopped;
+
+        FormationControl(long budgetMillis) {
+            this.bounded = budgetMillis >= 0;
+            this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, budgetMillis));
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        // Set once any formation thread has seen the deadline pass, or cancel() was called
+        boolean isStopped() {
+            return stopped;
+        }
+
+        boolean shouldStop() {
+            if (!stopped && bounded && System.nanoTime() - deadline >= 0) stopped = true;
+            return stopped;
+        }
+
+        // Cap a blocking wait so no thread sleeps past the deadline
+        long capMillis(long millis) {
+            if (!bounded) return millis;
+            return Math.max(0, Math.min(millis, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+
+        boolean awaitTermination(ExecutorService executor) throws InterruptedException {
+            if (!bounded) return executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            return executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private FormationRun startRun(ParticipantTable table) {
+        logger.log("INFO", "Starting concurrent team building with " + table.size() + " participants (teamSize=" +
+                teamSize + ", maxSameGame=" + maxSameGame + ", minRoles=" + minRoles + ")");
 
         // Pre-sort by personality (leaders first)
-        List<Participant> sortedPool = preprocessParticipants(participants);
+        int[] sortedPool = preprocessRows(table);
         logger.log("INFO", "Participants preprocessed and sorted by personality type");
 
+        // Personality-Based Pools (one per type)
+        ParticipantPools pools = formationMode == FormationMode.STRIPED_POOLS
+                ? new StripedPersonalityPools(table, maxThreads)
+                : new PersonalityPools(table);
+        FormationRun run = new FormationRun(this, table, sortedPool, pools);
+        for (int row : sortedPool) {
+            run.pools.offer(row);
+        }
 
-       //Personality-Based Queues
+        int[] available = countByType(run.pools);
+        logger.log("INFO", "Participants available per type: " + describeCounts(available));
+        logger.log("INFO", "Max possible teams (based on personality minimums): " +
+                maxTeamsFor(available, sortedPool.length));
+        return run;
+    }
 
-        Map<PersonalityType, BlockingQueue<Participant>> personalityQueues = new HashMap<>();
-        personalityQueues.put(PersonalityType.LEADER,   new LinkedBlockingQueue<>());
-        personalityQueues.put(PersonalityType.THINKER,  new LinkedBlockingQueue<>());
-        personalityQueues.put(PersonalityType.BALANCED, new LinkedBlockingQueue<>());
+    // Move the run through its remaining phases until done or told to stop
+    private FormationResult advance(FormationRun run, FormationControl control) throws InterruptedException {
+        long started = System.nanoTime();
+        run.advanceStart = started;
+        currentRun = run;
+        activeControl = control;
+        try {
+            // ===========================
+            // 2️⃣ PHASE 1: Strict Team Formation
+            // ===========================
+            if (run.phase == Phase.STRICT) {
+                reporter.summary("\n=== PHASE 1: Forming teams with ALL constraints ===");
+                logger.log("INFO", "=== PHASE 1: Strict team formation started ===");
+                notifyProgress(run);
+
+                int formed = runPhase(run, control, true);
+                if (control.isStopped()) return stopped(run, started, "Phase 1", formed);
+                reporter.summary("\n✅ Phase 1 Complete: " + run.drafts.size() + " teams formed with all constraints");
 
-        // Fill queues
-        for (Participant p : sortedPool) {
-            personalityQueues.get(p.getPersonalityType()).offer(p);
-        }
+                // ===========================
+                // 3️⃣ Check Remaining Participants
+                // ===========================
+                int[] remainingByType = countByType(run.pools);
+                int remaining = run.pools.totalSize();
+                StringBuilder remainingSummary = new StringBuilder("\n📊 Remaining Participants: " + remaining);
+                for (PersonalityType type : TYPES) {
+                    remainingSummary.append("\n   - ").append(type).append(": ").append(remainingByType[type.ordinal()]);
+                }
+                reporter.summary(remainingSummary.toString());
+                logger.log("INFO", "Remaining participants: " + remaining +
+                        " (" + describeCounts(remainingByType) + ")");
+                run.phase = Phase.FLEXIBLE;
+            }
 
-        int totalLeaders = personalityQueues.get(PersonalityType.LEADER).size();
-        int maxPossibleTeams = Math.min(sortedPool.size() / teamSize, totalLeaders);
+            // ===========================
+            // 4️⃣ Ask User About Flexible Teams, 5️⃣ PHASE 2: Flexible Team Formation
+            // ===========================
+            if (run.phase == Phase.FLEXIBLE) {
+                int[] remainingByType = countByType(run.pools);
+                if (maxTeamsFor(remainingByType, run.pools.totalSize()) > 0) {
+                    if (run.flexibleChosen == null) {
+                        run.flexibleChosen = deciderFor(control).formFlexibleTeams(remainingByType.clone());
+                        logger.log("INFO", run.flexibleChosen ? "User chose to form flexible teams"
+                                : "User declined flexible team formation");
+                    }
+                    if (run.flexibleChosen) {
+                        reporter.summary("\n=== PHASE 2: Forming teams with relaxed constraints ===");
+                        logger.log("INFO", "=== PHASE 2: Flexible team formation started ===");
+                        notifyProgress(run);
+
+                        int formed = runPhase(run, control, false);
+                        if (control.isStopped()) return stopped(run, started, "Phase 2", formed);
+                        reporter.summary("\n✅ Phase 2 Complete: " + formed + " flexible teams formed");
+                    } else {
+                        reporter.summary("\n⏭️  Skipping flexible team formation");
+                    }
+                } else {
+                    logger.log("INFO", "Insufficient participants for flexible teams");
+                    reporter.summary("\n⏭️  Not enough participants for additional teams");
+                }
+                run.phase = Phase.DISTRIBUTE;
+            }
 
-        logger.log("INFO", "Leaders available: " + totalLeaders);
-        logger.log("INFO", "Max possible teams (based on leader constraint): " + maxPossibleTeams);
+            // ===========================
+            // 6️⃣ Distribute Final Remaining Participants
+            // ===========================
+            if (run.phase == Phase.DISTRIBUTE) {
+                if (control.shouldStop()) return stopped(run, started, "Distribution", 0);
+                int[] remaining = run.pools.drain();
+                if (remaining.length > 0 && !run.drafts.isEmpty()) {
+                    logger.log("INFO", "Distributing " + remaining.length + " remaining participants");
+                    reporter.summary("\n📝 Distributing " + remaining.length + " remaining participants to existing teams...");
+                    notifyProgress(run);
+                    // Held so getPartialTeams() never reads a team while it grows
+                    synchronized (run.drafts) {
+                        run.placed.addAndGet(distributeRemaining(run.table, remaining, run.drafts, run.assigned));
+                    }
+                }
+                run.phase = Phase.DONE;
+            }
 
-        // ===========================
-        // 2️⃣ PHASE 1: Strict com.seniru.teambuilder.model.Team Formation
-        // ===========================
-        System.out.println("\n=== PHASE 1: Forming teams with ALL constraints ===");
-        logger.log("INFO", "=== PHASE 1: Strict team formation started ===");
+            // ===========================
+            // 7️⃣ Final Summary
+            // ===========================
+            FormationResult result = result(run, started, true);
+            // Keep only the teams, not the run's table and pools, once it is done
+            finishedTeams = List.copyOf(result.getTeams());
+            currentRun = null;
+            notifyProgress(run);
+            reporter.summary("\n" + "=".repeat(50) +
+                    "\n✅ TEAM BUILDING COMPLETE!\n" +
+                    "=".repeat(50) +
+                    "\nTotal Teams Formed: " + result.getTeams().size() +
+                    "\nTotal Participants Placed: " + placedCount(result) +
+                    "\n" + "=".repeat(50));
+            logger.log("INFO", "Concurrent team building finished with " + result.getTeams().size() + " final teams");
+            return result;
+        } finally {
+            activeControl = null;
+        }
+    }
 
-        int availableProcessors = Runtime.getRuntime().availableProcessors();
-        int numThreads = Math.min(availableProcessors, Math.max(1, maxPossibleTeams / 2));
+    // Returns how many teams this call formed
+    private int runPhase(FormationRun run, FormationControl control, boolean strictMode)
+            throws InterruptedException {
+        if (formationMode == FormationMode.PARTITIONED) {
+            int formed = runPartitionedPhase(run, control, strictMode);
+            if (control.isStopped()) return formed;
+            // Merge step: leftovers from every shard meet in the shared pools
+            return formed + runSharedPhase(run, control, strictMode);
+        }
+        return runSharedPhase(run, control, strictMode);
+    }
 
+    /**
+     * Submit one formation task per team the pools can still support and wait for them, or for
+     * the deadline. Returns how many teams this call formed.
+     */
+    private int runSharedPhase(FormationRun run, FormationControl control, boolean strictMode)
+            throws InterruptedException {
+        String label = strictMode ? "Phase 1" : "Phase 2";
+        int maxTeams = maxTeamsFor(countByType(run.pools), run.pools.totalSize());
+        if (!strictMode) logger.log("INFO", "Attempting " + maxTeams + " flexible teams");
+
+        int numThreads = Math.min(maxThreads, Math.max(1, maxTeams / 2));
         logger.log("INFO", "Using " + numThreads + " threads for concurrent team formation");
         ExecutorService executor = Executors.newFixedThreadPool(numThreads);
 
-        AtomicInteger teamCounter = new AtomicInteger(1);
-        List<Future<Team>> futures = new ArrayList<>();
-        List<Team> allTeams = Collections.synchronizedList(new ArrayList<>());
+        List<Future<TeamDraft>> futures = new ArrayList<>(maxTeams);
+        for (int i = 0; i < maxTeams; i++) {
+            futures.add(executor.submit(() ->
+                    formSingleTeamFromQueues(run, run.pools, control,
+                            "Team-" + run.teamCounter.getAndIncrement(), strictMode, true)));
+        }
+        executor.shutdown();
 
-        // Submit com.seniru.teambuilder.model.Team Builders
-        for (int i = 0; i < maxPossibleTeams; i++) {
-            Future<Team> f = executor.submit(() ->
-                    formSingleTeamFromQueues(
-                            personalityQueues,
-                            "Team-" + teamCounter.getAndIncrement(),
-                            true  // Strict mode
-                    )
-            );
-            futures.add(f);
+        // At the deadline, raise the stop flag: queued tasks return at once and in-flight ones
+        // hand their members back, so waiting for termination stays short
+        if (!control.awaitTermination(executor)) {
+            control.stop();
+            logger.log("INFO", label + " deadline reached, stopping in-flight formations");
+            executor.awaitTermination(30, TimeUnit.SECONDS);
         }
 
-        // Collect Built Teams
+        // Count Built Teams; each task already published its team, so ones completed just before the stop are kept
         int successful = 0, failed = 0;
-        for (Future<Team> f : futures) {
+        for (Future<TeamDraft> f : futures) {
             try {
-                Team t = f.get();
-                if (t != null && t.getCurrentSize() > 0) {
-                    allTeams.add(t);
+                TeamDraft t = f.get();
+                if (t != null && t.size() > 0) {
                     successful++;
                 } else {
                     failed++;
                 }
-            } catch (Exception e) {
+            } catch (ExecutionException e) {
                 failed++;
                 logger.log("ERROR", "Team creation failed: " + e.getMessage());
-                e.printStackTrace();
+                reporter.error("❌ Team creation failed: " + e.getMessage());
             }
         }
+        logger.log("INFO", label + " summary: " + successful + " successful, " + failed + " failed");
+        return successful;
+    }
 
-        logger.log("INFO", "Phase 1 summary: " + successful + " successful, " + failed + " failed");
-        System.out.println("\n✅ Phase 1 Complete: " + successful + " teams formed with all constraints");
+    /**
+     * Drain the shared pools into stratified shards and form teams inside each shard by fork-join
+     * recursion. Shard leftovers are offered back to the shared pools. Returns the teams formed.
+     */
+    private int runPartitionedPhase(FormationRun run, FormationControl control, boolean strictMode) {
+        String label = strictMode ? "Phase 1" : "Phase 2";
+        int[] rows = run.pools.drain();
+        int shardCount = Math.min(maxThreads * 4, rows.length / (teamSize * MIN_TEAMS_PER_SHARD));
+        if (shardCount < 2) {
+            // Too small to be worth splitting; the shared phase handles it
+            for (int row : rows) run.pools.offer(row);
+            return 0;
+        }
 
-        executor.shutdown();
-        executor.awaitTermination(30, TimeUnit.SECONDS);
-
-        // ===========================
-        // 3️⃣ Check Remaining Participants
-        // ===========================
-        List<Participant> remaining = new ArrayList<>();
-        personalityQueues.values().forEach(q -> q.drainTo(remaining));
-
-        int remainingLeaders = (int) remaining.stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.LEADER)
-                .count();
-        int remainingThinkers = (int) remaining.stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.THINKER)
-                .count();
-        int remainingBalanced = (int) remaining.stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.BALANCED)
-                .count();
-
-        System.out.println("\n📊 Remaining Participants: " + remaining.size());
-        System.out.println("   - Leaders: " + remainingLeaders);
-        System.out.println("   - Thinkers: " + remainingThinkers);
-        System.out.println("   - Balanced: " + remainingBalanced);
-
-        logger.log("INFO", "Remaining participants: " + remaining.size() +
-                " (L:" + remainingLeaders + " T:" + remainingThinkers + " B:" + remainingBalanced + ")");
-
-        // ===========================
-        // 4️⃣ Ask User About Flexible Teams
-        // ===========================
-        if (remaining.size() >= teamSize && remainingLeaders > 0 && remainingThinkers > 0) {
-            System.out.println("\n❓ Would you like to form additional teams with relaxed constraints?");
-            System.out.println("   (Team size and core requirements still enforced, but game/role diversity relaxed)");
-            System.out.print("   Enter 'yes' or 'no': ");
-
-            Scanner scanner = new Scanner(System.in);
-            String response = scanner.nextLine().trim().toLowerCase();
-
-            if (response.equals("yes") || response.equals("y")) {
-                logger.log("INFO", "User chose to form flexible teams");
+        int[][] shards = stratify(run.table, rows, shardCount);
+        int parallelism = Math.min(maxThreads, shardCount);
+        logger.log("INFO", label + ": forming teams in " + shardCount + " shards on " +
+                parallelism + " fork-join workers");
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            int formed = forkJoinPool.invoke(new ShardTask(run, control, shards, 0, shardCount, strictMode));
+            logger.log("INFO", label + " shards formed " + formed + " teams, " +
+                    run.pools.totalSize() + " leftovers to merge");
+            return formed;
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
 
-                // ===========================
-                // 5️⃣ PHASE 2: Flexible com.seniru.teambuilder.model.Team Formation
-                // ===========================
-                System.out.println("\n=== PHASE 2: Forming teams with relaxed constraints ===");
-                logger.log("INFO", "=== PHASE 2: Flexible team formation started ===");
+    /**
+     * Sort rows by (personality type, sport) and deal them round-robin, so every shard gets the
+     * same mix of types and sports as the whole pool.
+     */
+    private static int[][] stratify(ParticipantTable table, int[] rows, int shardCount) {
+        int sports = table.sportCount() + 1;  // +1 for rows without a sport
+        int[] start = new int[TYPES.length * sports + 1];
+        for (int row : rows) {
+            start[stratum(table, row, sports) + 1]++;
+        }
+        for (int k = 1; k < start.length; k++) {
+            start[k] += start[k - 1];
+        }
+        int[] sorted = new int[rows.length];
+        for (int row : rows) {
+            sorted[start[stratum(table, row, sports)]++] = row;
+        }
 
-                // Refill queues with remaining participants
-                for (Participant p : remaining) {
-                    personalityQueues.get(p.getPersonalityType()).offer(p);
-                }
+        int[][] shards = new int[shardCount][];
+        for (int s = 0; s < shardCount; s++) {
+            shards[s] = new int[(rows.length - s + shardCount - 1) / shardCount];
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            shards[i % shardCount][i / shardCount] = sorted[i];
+        }
+        return shards;
+    }
 
-                // Calculate max flexible teams
-                int maxFlexibleTeams = Math.min(
-                        Math.min(remaining.size() / teamSize, remainingLeaders),
-                        remainingThinkers  // Need at least 1 thinker per team
-                );
-
-                logger.log("INFO", "Attempting " + maxFlexibleTeams + " flexible teams");
-
-                // Create new executor for Phase 2
-                ExecutorService flexExecutor = Executors.newFixedThreadPool(numThreads);
-                List<Future<Team>> flexFutures = new ArrayList<>();
-
-                for (int i = 0; i < maxFlexibleTeams; i++) {
-                    Future<Team> f = flexExecutor.submit(() ->
-                            formSingleTeamFromQueues(
-                                    personalityQueues,
-                                    "Team-" + teamCounter.getAndIncrement(),
-                                    false  // Flexible mode
-                            )
-                    );
-                    flexFutures.add(f);
-                }
+    private static int stratum(ParticipantTable table, int row, int sports) {
+        return table.typeOrdinal(row) * sports + table.sportId(row) + 1;
+    }
 
-                // Collect flexible teams
-                int flexSuccessful = 0, flexFailed = 0;
-                for (Future<Team> f : flexFutures) {
-                    try {
-                        Team t = f.get();
-                        if (t != null && t.getCurrentSize() > 0) {
-                            allTeams.add(t);
-                            flexSuccessful++;
-                        } else {
-                            flexFailed++;
-                        }
-                    } catch (Exception e) {
-                        flexFailed++;
-                        logger.log("ERROR", "Flexible team creation failed: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                }
+    // Splits the shard range in half until one shard is left, then forms that shard's teams
+    @SuppressWarnings("serial")   // fork-join tasks are never serialized
+    private final class ShardTask extends RecursiveTask<Integer> {
+        private final FormationRun run;
+        private final FormationControl control;
+        private final int[][] shards;
+        private final int from;
+        private final int to;
+        private final boolean strictMode;
+
+        ShardTask(FormationRun run, FormationControl control, int[][] shards, int from, int to, boolean strictMode) {
+            this.run = run;
+            this.control = control;
+            this.shards = shards;
+            this.from = from;
+            this.to = to;
+            this.strictMode = strictMode;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from == 1) {
+                return formShard(run, control, shards[from], strictMode);
+            }
+            int mid = (from + to) >>> 1;
+            ShardTask left = new ShardTask(run, control, shards, from, mid, strictMode);
+            left.fork();
+            int right = new ShardTask(run, control, shards, mid, to, strictMode).compute();
+            return left.join() + right;
+        }
+    }
 
-                logger.log("INFO", "Phase 2 summary: " + flexSuccessful + " successful, " + flexFailed + " failed");
-                System.out.println("\n✅ Phase 2 Complete: " + flexSuccessful + " flexible teams formed");
+    /**
+     * Form teams from one shard with pools only this thread touches, so polls never wait;
+     * whatever the shard cannot use goes back to the shared pools.
+     */
+    private int formShard(FormationRun run, FormationControl control, int[] rows, boolean strictMode) {
+        ParticipantPools pools = new PersonalityPools(run.table);
+        for (int row : rows) {
+            pools.offer(row);
+        }
+        int formed = 0;
+        int attempts = maxTeamsFor(countByType(pools), pools.totalSize());
+        for (int i = 0; i < attempts && !control.shouldStop(); i++) {
+            String teamId = "Team-" + run.teamCounter.getAndIncrement();
+            if (formSingleTeamFromQueues(run, pools, control, teamId, strictMode, false) != null) formed++;
+        }
+        for (int row : pools.drain()) {
+            run.pools.offer(row);
+        }
+        return formed;
+    }
 
-                flexExecutor.shutdown();
-                flexExecutor.awaitTermination(30, TimeUnit.SECONDS);
+    private FormationResult stopped(FormationRun run, long started, String phase, int formed) {
+        FormationResult result = result(run, started, false);
+        notifyProgress(run);
+        logger.log("INFO", phase + " stopped early with " + result.getTeams().size() + " teams, " +
+                result.getUnplaced().size() + " participants unplaced");
+        reporter.summary("\n⏱ " + phase + " stopped at deadline: " + formed + " teams formed this run, " +
+                result.getTeams().size() + " in total, " + result.getUnplaced().size() + " participants unplaced");
+        return result;
+    }
 
-                // Update remaining participants
-                remaining.clear();
-                personalityQueues.values().forEach(q -> q.drainTo(remaining));
-            } else {
-                logger.log("INFO", "User declined flexible team formation");
-                System.out.println("\n⏭️  Skipping flexible team formation");
+    // Materialise the teams formed so far and list every row not in one, skipped rows included
+    private FormationResult result(FormationRun run, long started, boolean complete) {
+        run.elapsedNanos += System.nanoTime() - started;
+        run.advanceStart = 0;
+        List<Team> teams = materialise(run);
+        List<Participant> unplaced = new ArrayList<>();
+        for (int row : run.eligibleRows) {
+            if (!run.assigned.get(row)) unplaced.add(run.table.participant(row));
+        }
+        for (int row : run.skippedRows) {
+            unplaced.add(run.table.participant(row));
+        }
+        return new FormationResult(teams, unplaced, complete,
+                TimeUnit.NANOSECONDS.toMillis(run.elapsedNanos), run);
+    }
+
+    private List<Team> materialise(FormationRun run) {
+        synchronized (run.drafts) {
+            List<Team> teams = new ArrayList<>(run.drafts.size());
+            for (TeamDraft draft : run.drafts) {
+                teams.add(draft.toTeam(teamSize + MAX_OVERFLOW));
             }
-        } else {
-            logger.log("INFO", "Insufficient participants for flexible teams");
-            System.out.println("\n⏭️  Not enough participants for additional teams");
+            return teams;
         }
+    }
 
-        // ===========================
-        // 6️⃣ Distribute Final Remaining Participants
-        // ===========================
-        if (!remaining.isEmpty() && !allTeams.isEmpty()) {
-            logger.log("INFO", "Distributing " + remaining.size() + " remaining participants");
-            System.out.println("\n📝 Distributing " + remaining.size() + " remaining participants to existing teams...");
-            distributeRemaining(remaining, allTeams);
+    // A failing listener is logged and must not abort the formation
+    private void notifyProgress(FormationRun run) {
+        FormationListener l = listener;
+        if (l == null) return;
+        long start = run.advanceStart;
+        long elapsed = run.elapsedNanos + (start == 0 ? 0 : System.nanoTime() - start);
+        try {
+            l.onProgress(new FormationProgress(run.phase, run.drafts.size(), run.placed.get(),
+                    run.eligibleRows.length, elapsed));
+        } catch (RuntimeException e) {
+            logger.log("ERROR", "Formation listener failed: " + e.getMessage());
         }
+    }
+
+    private static int placedCount(FormationResult result) {
+        return result.getTeams().stream().mapToInt(Team::getCurrentSize).sum();
+    }
+
+    // NEVER when no one could answer: a budgeted run must not block on stdin, and a reporter
+    // other than the console one would hide the question
+    private FlexiblePhaseDecider deciderFor(FormationControl control) {
+        if (flexibleDecider != null) return flexibleDecider;
+        boolean canAsk = !control.bounded && reporter == ProgressReporter.console();
+        return canAsk ? this::askOnConsole : FlexiblePhaseDecider.NEVER;
+    }
 
-        // ===========================
-        // 7️⃣ Final Summary
-        // ===========================
-        System.out.println("\n" + "=".repeat(50));
-        System.out.println("✅ TEAM BUILDING COMPLETE!");
-        System.out.println("=".repeat(50));
-        System.out.println("Total Teams Formed: " + allTeams.size());
-        System.out.println("Total Participants Placed: " +
-                allTeams.stream().mapToInt(Team::getCurrentSize).sum());
-        System.out.println("=".repeat(50));
+    // Default decider: ask the organizer on the console, through the reporter
+    private boolean askOnConsole(int[] remainingByType) {
+        reporter.summary("\n❓ Would you like to form additional teams with relaxed constraints?");
+        reporter.summary("   (Team size and core requirements still enforced, but game/role diversity relaxed)");
+        reporter.summary("   Enter 'yes' or 'no': ");
 
-        logger.log("INFO", "Concurrent team building finished with " + allTeams.size() + " final teams");
-        return allTeams;
+        if (consoleInput == null) consoleInput = new Scanner(System.in);
+        String response = consoleInput.hasNextLine() ? consoleInput.nextLine().trim().toLowerCase() : "";
+        return response.equals("yes") || response.equals("y");
     }
 
     /**
-     * Form team from queues with either strict or flexible constraints
+     * Form team from the personality pools with either strict or flexible constraints.
+     * Shared pools may be refilled by other threads, so empty polls wait briefly (blocking);
+     * a shard's private pools cannot, so its polls never wait.
      */
-    private Team formSingleTeamFromQueues(
-            Map<PersonalityType, BlockingQueue<Participant>> queues,
+    private TeamDraft formSingleTeamFromQueues(
+            FormationRun run,
+            ParticipantPools pools,
+            FormationControl control,
             String teamId,
-            boolean strictMode) {
+            boolean strictMode,
+            boolean blocking) {
 
+        // Queued behind the deadline or a cancel(): nothing to hand back yet
+        if (control.shouldStop()) return null;
+        ParticipantTable table = run.table;
+        AtomicBitSet assigned = run.assigned;
         String mode = strictMode ? "[STRICT]" : "[FLEXIBLE]";
         logger.log("INFO", "Thread forming " + teamId + " " + mode);
 
-        Team team = new Team(teamId, teamSize);
-        List<Participant> selected = new ArrayList<>();
-
-        BlockingQueue<Participant> leaders   = queues.get(PersonalityType.LEADER);
-        BlockingQueue<Participant> thinkers  = queues.get(PersonalityType.THINKER);
-        BlockingQueue<Participant> balanced  = queues.get(PersonalityType.BALANCED);
+        TeamDraft team = new TeamDraft(teamId, table, teamSize);
+        int[] maxAllowed = strictMode ? maxPerType : flexibleMaxPerType;
 
         try {
-            // 1️⃣ Always get a Leader (REQUIRED in both modes)
-            Participant leader = leaders.poll(500, TimeUnit.MILLISECONDS);
-            if (leader == null) {
-                logger.log("WARN", teamId + ": No leader available, aborting team");
-                return null;
-            }
-            team.addMember(leader);
-            selected.add(leader);
-
-            // 2️⃣ Add Thinkers (1–2, REQUIRED in both modes)
-            int thinkersMin = 1;
-            int thinkersTarget = teamSize > 5 ? 2 : 1;
-            int thinkersAdded = 0;
-
-            for (int i = 0; i < thinkersTarget * 3 && thinkersAdded < thinkersTarget; i++) {
-                Participant t = thinkers.poll(300, TimeUnit.MILLISECONDS);
-                if (t != null) {
-                    if (strictMode) {
-                        if (canAddToTeam(team, t)) {
-                            team.addMember(t);
-                            selected.add(t);
-                            thinkersAdded++;
-                        }
-                        else {
-                            thinkers.offer(t);  // Return to queue
-                        }
+            // 1️⃣ Required members of each type (leader first, then thinkers), REQUIRED in both modes
+            for (PersonalityType type : TYPES) {
+                int required = minPerType[type.ordinal()];
+                int added = 0;
+
+                for (int i = 0; i < required * 3 && added < required && !control.shouldStop(); i++) {
+                    int row = pools.poll(type, missingRoles(team),
+                            blocking ? control.capMillis(type == PersonalityType.LEADER ? 500 : 300) : 0);
+                    if (row == ParticipantPools.EMPTY) {
+                        break;
+                    }
+                    boolean canAdd = strictMode ? canAddToTeam(table, team, row) : canAddToTeamFlexible(table, team, row);
+                    if (canAdd) {
+                        if (place(team, row, assigned)) added++;
                     } else {
-                        // Flexible mode - only check personality limits
-                        if (canAddToTeamFlexible(team, t)) {
-                            team.addMember(t);
-                            selected.add(t);
-                            thinkersAdded++;
-                        } else {
-                            thinkers.offer(t);
-                        }
+                        pools.offer(row);  // Return to pool
                     }
-                } else {
-                    break;
                 }
 
-            }
+                if (control.shouldStop()) return abandon(pools, team, assigned, teamId);
 
-            // Check minimum thinker requirement
-            if (thinkersAdded < thinkersMin) {
-                logger.log("WARN", teamId + ": Failed to get minimum thinkers, aborting");
-                selected.forEach(p -> queues.get(p.getPersonalityType()).offer(p));
-                return null;
+                // Check minimum requirement for this type
+                if (added < required) {
+                    logger.log("WARN", teamId + ": Failed to get minimum " + type + " members, aborting");
+                    returnMembers(pools, team, assigned);
+                    return null;
+                }
             }
 
-            // 3️⃣ Fill remaining slots
-            int maxAttempts = (balanced.size() + thinkers.size() + leaders.size()) * 2;
+            // 2️⃣ Fill remaining slots
+            int maxAttempts = pools.totalSize() * 2;
             int attempts = 0;
             int emptyPollCount = 0;
             int maxEmptyPolls = strictMode ? 4 : 8;
 
-            while (team.getCurrentSize() < teamSize && emptyPollCount < maxEmptyPolls) {
-                Participant p = null;
+            while (team.size() < teamSize && emptyPollCount < maxEmptyPolls) {
                 attempts++;
 
                 if (attempts > maxAttempts) break;
+                if (control.shouldStop()) return abandon(pools, team, assigned, teamId);
 
-                // Try balanced queue first
-                p = balanced.poll(200, TimeUnit.MILLISECONDS);
-
-                // Try thinker queue if can add more (max 2)
-                if (p == null && team.countPersonalityType(PersonalityType.THINKER) < 2) {
-                    p = thinkers.poll(200, TimeUnit.MILLISECONDS);
-                }
-
-                // In flexible mode, try leaders to fill slots
-                if (p == null && !strictMode) {
-                    p = leaders.poll(200, TimeUnit.MILLISECONDS);
-                }
+                int row = pollForFill(pools, team, maxAllowed, blocking ? control.capMillis(200) : 0);
 
-                if (p != null) {
-                    boolean canAdd = strictMode ? canAddToTeam(team, p) : canAddToTeamFlexible(team, p);
+                if (row != ParticipantPools.EMPTY) {
+                    boolean canAdd = strictMode ? canAddToTeam(table, team, row) : canAddToTeamFlexible(table, team, row);
 
                     if (canAdd) {
-                        team.addMember(p);
-                        selected.add(p);
+                        place(team, row, assigned);
                         emptyPollCount = 0;
                     } else {
-                        // Return to appropriate queue
-                        queues.get(p.getPersonalityType()).offer(p);
+                        // Return to its pool
+                        pools.offer(row);
                         emptyPollCount++;
                     }
                 } else {
@@ -372,138 +800,244 @@ public class TeamBuilder {
             }
 
             // Check if team is complete
-            if (team.getCurrentSize() < teamSize) {
+            if (team.size() < teamSize) {
                 logger.log("WARN", teamId + " " + mode + " incomplete (" +
-                        team.getCurrentSize() + "/" + teamSize + "), returning members");
-                System.err.println("⚠ " + teamId + " " + mode + " incomplete (" +
-                        team.getCurrentSize() + "/" + teamSize + ")");
-                selected.forEach(p -> queues.get(p.getPersonalityType()).offer(p));
+                        team.size() + "/" + teamSize + "), returning members");
+                reporter.warn("⚠ " + teamId + " " + mode + " incomplete (" +
+                        team.size() + "/" + teamSize + ")");
+                returnMembers(pools, team, assigned);
                 return null;
             }
 
             logger.log("INFO", teamId + " " + mode + " formed successfully");
-            System.out.println("✓ " + teamId + " formed " + mode);
+            reporter.progress("✓ " + teamId + " formed " + mode);
+            run.drafts.add(team);
+            run.placed.addAndGet(team.size());
+            notifyProgress(run);
             return team;
 
         } catch (Exception e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
             logger.log("ERROR", teamId + " formation interrupted");
-            System.err.println("⚠ " + teamId + " formation interrupted");
-            selected.forEach(p -> queues.get(p.getPersonalityType()).offer(p));
+            reporter.warn("⚠ " + teamId + " formation interrupted");
+            returnMembers(pools, team, assigned);
             return null;
         }
     }
 
+    // Stopped mid-formation: the partial team is dropped and its members go back to the pools
+    private TeamDraft abandon(ParticipantPools pools, TeamDraft team, AtomicBitSet assigned, String teamId) {
+        logger.log("INFO", teamId + " stopped before completion, returning " + team.size() + " members");
+        returnMembers(pools, team, assigned);
+        return null;
+    }
+
+    // Claim the row in the event-wide assignment set before adding it; a row already placed is dropped
+    private boolean place(TeamDraft team, int row, AtomicBitSet assigned) {
+        if (!assigned.set(row)) {
+            logger.log("WARN", "Row " + row + " is already placed in a team, skipping duplicate");
+            return false;
+        }
+        team.add(row);
+        return true;
+    }
+
+    private void returnMembers(ParticipantPools pools, TeamDraft team, AtomicBitSet assigned) {
+        for (int i = 0; i < team.size(); i++) {
+            assigned.clear(team.row(i));
+            pools.offer(team.row(i));
+        }
+    }
+
     /**
-     * Pre-process participants: stratify by personality, shuffle within groups.
+     * Take the next fill candidate from the types the team still has quota for, in FILL_ORDER.
+     * The first sweep only takes participants bringing a role the team is missing, the second
+     * takes anyone; both are non-blocking. Only then wait briefly on the preferred type.
      */
-    private List<Participant> preprocessParticipants(List<Participant> participants) {
-        Map<PersonalityType, List<Participant>> grouped = participants.stream()
-                .collect(Collectors.groupingBy(Participant::getPersonalityType));
+    private int pollForFill(ParticipantPools pools, TeamDraft team, int[] maxAllowed, long waitMillis)
+            throws InterruptedException {
+        int missing = missingRoles(team);
+        PersonalityType preferred = null;
+        for (PersonalityType type : FILL_ORDER) {
+            if (team.countType(type.ordinal()) >= maxAllowed[type.ordinal()]) continue;
+            if (preferred == null) preferred = type;
+            int row = pools.poll(type, missing);
+            if (row != ParticipantPools.EMPTY) return row;
+        }
+        if (preferred == null) return ParticipantPools.EMPTY;
 
-        List<Participant> result = new ArrayList<>();
+        for (PersonalityType type : FILL_ORDER) {
+            if (team.countType(type.ordinal()) >= maxAllowed[type.ordinal()]) continue;
+            int row = pools.poll(type);
+            if (row != ParticipantPools.EMPTY) return row;
+        }
+        return pools.poll(preferred, missing, waitMillis);
+    }
 
-        for (PersonalityType type : Arrays.asList(
-                PersonalityType.LEADER,
-                PersonalityType.THINKER,
-                PersonalityType.BALANCED)) {
+    private int missingRoles(TeamDraft team) {
+        return allRolesMask & ~team.roleMask();
+    }
 
-            List<Participant> group = grouped.getOrDefault(type, new ArrayList<>());
-            Collections.shuffle(group, random);
-            result.addAll(group);
+    /**
+     * Pre-process rows: table rows grouped by personality type in ordinal order and shuffled
+     * within each group. Rows without a personality type (invalid survey)
+     * cannot be placed and are left out, as are repeat rows of a participant id already seen.
+     */
+    private int[] preprocessRows(ParticipantTable table) {
+        int[] counts = new int[TYPES.length];
+        int unclassified = 0;
+        int duplicates = 0;
+        Map<String, Integer> firstRowById = new HashMap<>();
+        boolean[] skip = new boolean[table.size()];
+        for (int row = 0; row < table.size(); row++) {
+            int type = table.typeOrdinal(row);
+            String id = table.id(row);
+            if (type == ParticipantTable.NONE) {
+                unclassified++;
+                skip[row] = true;
+            } else if (id != null && firstRowById.putIfAbsent(id, row) != null) {
+                duplicates++;
+                skip[row] = true;
+            } else {
+                counts[type]++;
+            }
+        }
+
+        // Counting sort into one array, then shuffle each type's segment
+        int[] start = new int[TYPES.length + 1];
+        for (int t = 0; t < TYPES.length; t++) {
+            start[t + 1] = start[t] + counts[t];
+        }
+        int[] result = new int[start[TYPES.length]];
+        int[] next = Arrays.copyOf(start, TYPES.length);
+        for (int row = 0; row < table.size(); row++) {
+            if (!skip[row]) {
+                result[next[table.typeOrdinal(row)]++] = row;
+            }
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            for (int i = start[t + 1] - 1; i > start[t]; i--) {
+                int j = start[t] + random.nextInt(i - start[t] + 1);
+                int tmp = result[i];
+                result[i] = result[j];
+                result[j] = tmp;
+            }
         }
-        logger.log("INFO", String.format("Preprocessed participants: %d leaders, %d thinkers, %d balanced",
-                grouped.getOrDefault(PersonalityType.LEADER, new ArrayList<>()).size(),
-                grouped.getOrDefault(PersonalityType.THINKER, new ArrayList<>()).size(),
-                grouped.getOrDefault(PersonalityType.BALANCED, new ArrayList<>()).size()));
+
+        if (unclassified > 0) {
+            reporter.warn("⚠ " + unclassified + " participants have no personality type and cannot be placed");
+        }
+        if (duplicates > 0) {
+            // ids should be unique by now (IdAllocator.repairIds); what is left are repeat registrations
+            reporter.warn("⚠ " + duplicates + " rows repeat an earlier participant id and were skipped");
+        }
+        logger.log("INFO", "Preprocessed participants: " + describeCounts(counts) +
+                (unclassified > 0 ? ", " + unclassified + " unclassified skipped" : "") +
+                (duplicates > 0 ? ", " + duplicates + " duplicate ids skipped" : ""));
         return result;
     }
 
     /**
-     * STRICT mode: Check ALL constraints
+     * Number of teams the personality minimums allow, capped by how many full teams the pool holds
      */
-    private boolean canAddToTeam(Team team, Participant p) {
-        // Constraint 1: Game variety
-        if (team.countGame(p.getPreferredSport()) >= maxSameGame) {
-            return false;
+    private int maxTeamsFor(int[] countsByType, int poolSize) {
+        int maxTeams = poolSize / teamSize;
+        for (PersonalityType type : TYPES) {
+            int required = minPerType[type.ordinal()];
+            if (required > 0) {
+                maxTeams = Math.min(maxTeams, countsByType[type.ordinal()] / required);
+            }
         }
+        return maxTeams;
+    }
 
-        // Constraint 2: Personality balance
-        PersonalityType pt = p.getPersonalityType();
-        long leaderCount = team.countPersonalityType(PersonalityType.LEADER);
-        long thinkerCount = team.countPersonalityType(PersonalityType.THINKER);
+    private int[] countByType(ParticipantPools pools) {
+        int[] counts = new int[TYPES.length];
+        for (PersonalityType type : TYPES) {
+            counts[type.ordinal()] = pools.size(type);
+        }
+        return counts;
+    }
 
-        if (pt == PersonalityType.LEADER && leaderCount >= 1) {
+    private String describeCounts(int[] countsByType) {
+        StringBuilder sb = new StringBuilder();
+        for (PersonalityType type : TYPES) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(type).append('=').append(countsByType[type.ordinal()]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * STRICT mode: Check ALL constraints
+     * (package-private, like calculateFitScore and distributeRemaining, so the JMH benchmarks can call it)
+     */
+    boolean canAddToTeam(ParticipantTable table, TeamDraft team, int row) {
+        // Constraint 1: Game variety
+        if (team.countSport(table.sportId(row)) >= maxSameGame) {
             return false;
         }
 
-        if (pt == PersonalityType.THINKER && thinkerCount >= 2) {
+        // Constraint 2: Personality quota
+        int type = table.typeOrdinal(row);
+        if (team.countType(type) >= maxPerType[type]) {
             return false;
         }
 
-        return true;
+        // Constraint 3: Role diversity - the slots left after this member must still be able to cover minRoles
+        int rolesAfter = Integer.bitCount(team.roleMask() | roleBit(table.roleOrdinal(row)));
+        int slotsAfter = teamSize - team.size() - 1;
+        return requiredRoles - rolesAfter <= slotsAfter;
     }
 
     /**
-     * FLEXIBLE mode: Only check core constraints (team size, leader, thinkers)
+     * FLEXIBLE mode: Only check personality quotas, with multiple leaders allowed to fill teams
      * Game variety and role diversity are RELAXED
      */
-    private boolean canAddToTeamFlexible(Team team, Participant p) {
-        PersonalityType pt = p.getPersonalityType();
-        long thinkerCount = team.countPersonalityType(PersonalityType.THINKER);
-
-        // Max 2 thinkers (still enforced)
-        if (pt == PersonalityType.THINKER && thinkerCount >= 2) {
-            return false;
-        }
-
-        // Multiple leaders allowed in flexible mode (to fill teams)
-        // No game or role restrictions in flexible mode
+    private boolean canAddToTeamFlexible(ParticipantTable table, TeamDraft team, int row) {
+        int type = table.typeOrdinal(row);
+        return team.countType(type) < flexibleMaxPerType[type];
+    }
 
-        return true;
+    private static int roleBit(int roleOrdinal) {
+        return roleOrdinal == ParticipantTable.NONE ? 0 : 1 << roleOrdinal;
     }
 
     /**
      * Calculate fit score for participant
      */
-    private double calculateFitScore(Team team, Participant p) {
+    double calculateFitScore(ParticipantTable table, TeamDraft team, int row) {
         double score = 0;
 
         // com.seniru.teambuilder.model.Role Diversity
-        if (!team.hasRole(p.getPreferredRole())) {
+        if ((team.roleMask() & roleBit(table.roleOrdinal(row))) == 0) {
             score += 30;
         } else {
             score += 5;
         }
 
         // Game Variety
-        long sameGameCount = team.countGame(p.getPreferredSport());
+        int sameGameCount = team.countSport(table.sportId(row));
         if (sameGameCount == 0) {
             score += 25;
         } else if (sameGameCount == 1) {
             score += 12;
         }
 
-        // Personality Balance
-        PersonalityType pt = p.getPersonalityType();
-        long leaderCount = team.countPersonalityType(PersonalityType.LEADER);
-        long thinkerCount = team.countPersonalityType(PersonalityType.THINKER);
-
-        if (pt == PersonalityType.LEADER && leaderCount == 0) {
-            score += 25;
-        } else if (pt == PersonalityType.THINKER && thinkerCount < 2) {
-            score += 20;
-        } else if (pt == PersonalityType.BALANCED) {
-            score += 15;
+        // Personality Balance: bonus while the team still has quota for this type
+        int t = table.typeOrdinal(row);
+        if (team.countType(t) < maxPerType[t]) {
+            score += FIT_BONUS[t];
         }
 
         // Skill Balance
-        double currentAvg = team.getAverageSkill();
-        if (team.getCurrentSize() == 0) {
-            score += 15 - Math.abs(p.getSkillLevel() - 65) / 5.0;
+        int skill = table.skill(row);
+        if (team.size() == 0) {
+            score += 15 - Math.abs(skill - 65) / 5.0;
         } else {
             double targetAvg = 60;
-            double newAvg = (currentAvg * team.getCurrentSize() + p.getSkillLevel())
-                    / (team.getCurrentSize() + 1);
+            double newAvg = (team.averageSkill() * team.size() + skill)
+                    / (team.size() + 1);
             double deviation = Math.abs(newAvg - targetAvg);
             score += Math.max(0, 15 - deviation / 3.0);
         }
@@ -514,21 +1048,24 @@ public class TeamBuilder {
     }
 
     /**
-     * Distribute remaining participants to existing teams
+     * Distribute remaining participants to existing teams.
+     * A team may grow to teamSize + MAX_OVERFLOW but still keeps its game-variety and personality
+     * limits; participants no team can take stay unplaced and are reported. Returns how many were placed.
      */
-    private void distributeRemaining(List<Participant> remaining, List<Team> teams) {
-        teams.sort(Comparator.comparingInt(Team::getCurrentSize));
-        logger.log("INFO", "Starting distribution of " + remaining.size() + " remaining participants");
+    int distributeRemaining(ParticipantTable table, int[] remaining, List<TeamDraft> teams,
+                            AtomicBitSet assigned) {
+        teams.sort(Comparator.comparingInt(TeamDraft::size));
+        logger.log("INFO", "Starting distribution of " + remaining.length + " remaining participants");
 
         int distributed = 0;
-        int lastResort = 0;
-        for (Participant p : remaining) {
-            Team bestTeam = null;
+        int unplaced = 0;
+        for (int row : remaining) {
+            TeamDraft bestTeam = null;
             double bestScore = -1;
 
-            for (Team team : teams) {
-                if (team.getCurrentSize() < teamSize + 2) {
-                    double score = calculateFitScore(team, p);
+            for (TeamDraft team : teams) {
+                if (team.size() < teamSize + MAX_OVERFLOW && canJoinFormedTeam(table, team, row)) {
+                    double score = calculateFitScore(table, team, row);
                     if (score > bestScore) {
                         bestScore = score;
                         bestTeam = team;
@@ -537,15 +1074,23 @@ public class TeamBuilder {
             }
 
             if (bestTeam != null) {
-                bestTeam.addMember(p);
-                distributed++;
+                if (place(bestTeam, row, assigned)) distributed++;
             } else {
-                teams.get(0).addMember(p);
-                lastResort++;
-                logger.log("WARN", "Participant " + p.getName() + " added to smallest team as last resort");
+                unplaced++;
+                logger.log("WARN", "Participant " + table.name(row) + " fits no team and stays unplaced");
             }
         }
-        logger.log("INFO", String.format("Distribution complete: %d optimal placement, %d last resort",
-                distributed, lastResort));
+        if (unplaced > 0) {
+            reporter.warn("⚠ " + unplaced + " participants could not be placed without breaking team constraints");
+        }
+        logger.log("INFO", String.format("Distribution complete: %d placed, %d unplaced",
+                distributed, unplaced));
+        return distributed;
+    }
+
+    // A formed team keeps its game-variety and personality limits while absorbing leftovers
+    private boolean canJoinFormedTeam(ParticipantTable table, TeamDraft team, int row) {
+        int type = table.typeOrdinal(row);
+        return team.countSport(table.sportId(row)) < maxSameGame && team.countType(type) < maxPerType[type];
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Team;
+
+import java.util.Arrays;
+
+/**
+ * A team under construction, held as ParticipantTable rows together with the counters the
+ * constraint checks read: members per personality type, members per sport (as a few
+ * sport/count pairs, since a team holds only a handful of sports), covered-role bitmask and
+ * skill sum. Only the thread forming a draft touches it; toTeam() produces the Team once
+ * formation has finished.
+ */
+class TeamDraft {
+
+    private final String id;
+    private final ParticipantTable table;
+    private int[] rows;
+    private int size;
+    private final int[] typeCounts = new int[PersonalityType.values().length];
+    private int[] sports;
+    private int[] sportCounts;
+    private int sportsUsed;
+    private int roleMask;
+    private long skillSum;
+
+    TeamDraft(String id, ParticipantTable table, int expectedSize) {
+        this.id = id;
+        this.table = table;
+        this.rows = new int[Math.max(1, expectedSize)];
+        this.sports = new int[Math.max(1, expectedSize)];
+        this.sportCounts = new int[sports.length];
+    }
+
+    void add(int row) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        rows[size++] = row;
+
+        int type = table.typeOrdinal(row);
+        if (type != ParticipantTable.NONE) typeCounts[type]++;
+        int sport = table.sportId(row);
+        if (sport != ParticipantTable.NONE) countSportMember(sport);
+        int role = table.roleOrdinal(row);
+        if (role != ParticipantTable.NONE) roleMask |= 1 << role;
+        skillSum += table.skill(row);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int row(int index) {
+        return rows[index];
+    }
+
+    int countType(int typeOrdinal) {
+        return typeCounts[typeOrdinal];
+    }
+
+    int countSport(int sportId) {
+        for (int i = 0; i < sportsUsed; i++) {
+            if (sports[i] == sportId) return sportCounts[i];
+        }
+        return 0;
+    }
+
+    private void countSportMember(int sport) {
+        for (int i = 0; i < sportsUsed; i++) {
+            if (sports[i] == sport) {
+                sportCounts[i]++;
+                return;
+            }
+        }
+        if (sportsUsed == sports.length) {
+            sports = Arrays.copyOf(sports, sportsUsed * 2);
+            sportCounts = Arrays.copyOf(sportCounts, sportsUsed * 2);
+        }
+        sports[sportsUsed] = sport;
+        sportCounts[sportsUsed++] = 1;
+    }
+
+    int roleMask() {
+        return roleMask;
+    }
+
+    double averageSkill() {
+        return size == 0 ? 0 : (double) skillSum / size;
+    }
+
+    // Materialise the finished team, frozen; capacity records the overflow room the builder allowed
+    Team toTeam(int capacity) {
+        Team team = new Team(id, Math.max(capacity, size));
+        for (int i = 0; i < size; i++) {
+            team.addMember(table.participant(rows[i]));
+        }
+        return team.freeze();
+    }
+}
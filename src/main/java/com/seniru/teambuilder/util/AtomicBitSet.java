@@ -0,0 +1,64 @@
+package com.seniru.teambuilder.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size bit set whose bits can be set and cleared by many threads without locking.
+ */
+public class AtomicBitSet {
+
+    private final AtomicLongArray words;
+    private final int size;
+
+    public AtomicBitSet(int size) {
+        if (size < 0) throw new IllegalArgumentException("Size must be >= 0");
+        this.size = size;
+        this.words = new AtomicLongArray((size + 63) >>> 6);
+    }
+
+    // Set the bit; returns false if it was already set
+    public boolean set(int index) {
+        checkIndex(index);
+        int w = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long current = words.get(w);
+            if ((current & bit) != 0) return false;
+            if (words.compareAndSet(w, current, current | bit)) return true;
+        }
+    }
+
+    public void clear(int index) {
+        checkIndex(index);
+        int w = index >>> 6;
+        long bit = 1L << index;
+        while (true) {
+            long current = words.get(w);
+            if ((current & bit) == 0) return;
+            if (words.compareAndSet(w, current, current & ~bit)) return;
+        }
+    }
+
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Bit " + index + " of " + size);
+        }
+    }
+}
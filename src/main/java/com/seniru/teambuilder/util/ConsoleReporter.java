@@ -0,0 +1,29 @@
+package com.seniru.teambuilder.util;
+
+/**
+ * Prints every message, exactly like the services did before reporting was pluggable.
+ */
+public class ConsoleReporter implements ProgressReporter {
+
+    static final ConsoleReporter INSTANCE = new ConsoleReporter();
+
+    @Override
+    public void progress(String message) {
+        System.out.println(message);
+    }
+
+    @Override
+    public void warn(String message) {
+        System.out.println(message);
+    }
+
+    @Override
+    public void error(String message) {
+        System.err.println(message);
+    }
+
+    @Override
+    public void summary(String message) {
+        System.out.println(message);
+    }
+}
@@ -0,0 +1,326 @@
+package com.seniru.teambuilder.util;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic participant datasets for benchmarks and load tests. Rows are generated one at a time
+ * from a seed and written straight to disk, so any number of rows can be produced in constant
+ * memory. Sport, role, skill and personality-type distributions are configurable, with presets
+ * for realistic intakes and for skewed or adversarial ones.
+ *
+ * CSV output uses the participants.csv layout read by CSVHandler. The binary layout is
+ * "TMDS", version, row count, sport dictionary, then per row the id number and one byte each
+ * for sport, role, skill, personality score and type (names and emails are derived from the id).
+ */
+public final class DatasetGenerator {
+
+    private static final int MAGIC = 0x544D4453;   // "TMDS"
+    private static final int VERSION = 1;
+    private static final PersonalityType[] TYPES = PersonalityType.values();
+    private static final Role[] ROLES = Role.values();
+    private static final String[] DEFAULT_SPORTS = {
+            "Chess", "FIFA", "Basketball", "CS:GO", "DOTA 2", "Valorant", "Badminton", "Football", "Tennis", "Rugby"
+    };
+
+    /**
+     * Ready-made distributions. The adversarial ones starve the constraints TeamBuilder enforces.
+     */
+    public enum Profile {
+        UNIFORM,        // every type, role, sport and skill equally likely
+        REALISTIC,      // few leaders, mostly balanced, skills around 6
+        SKEWED,         // Zipf-distributed sports, low skills dominate
+        FEW_LEADERS,    // 1% leaders: most teams cannot meet the leader minimum
+        SINGLE_SPORT,   // everyone plays one sport: maxSameGame is the binding limit
+        ROLE_STARVED    // almost everyone is an attacker: minRoles is the binding limit
+    }
+
+    private final int[] typeWeights = new int[TYPES.length];
+    private final int[] roleWeights = new int[ROLES.length];
+    private String[] sports = DEFAULT_SPORTS;
+    private int[] sportWeights = new int[DEFAULT_SPORTS.length];
+    private double skillMean = -1;     // negative: uniform 1..10
+    private double skillDeviation = 2;
+    private long seed = 42;
+    private final PersonalityModel model = PersonalityModel.defaultModel();
+
+    public DatasetGenerator() {
+        this(Profile.REALISTIC);
+    }
+
+    public DatasetGenerator(Profile profile) {
+        Arrays.fill(typeWeights, 1);
+        Arrays.fill(roleWeights, 1);
+        Arrays.fill(sportWeights, 1);
+        switch (profile) {
+            case UNIFORM -> { }
+            case REALISTIC -> {
+                setTypeWeights(12, 28, 45, 15);
+                skillMean = 6;
+            }
+            case SKEWED -> {
+                zipfSports(1.2);
+                setTypeWeights(10, 25, 50, 15);
+                skillMean = 3;
+                skillDeviation = 1.5;
+            }
+            case FEW_LEADERS -> {
+                setTypeWeights(1, 30, 50, 19);
+                skillMean = 6;
+            }
+            case SINGLE_SPORT -> {
+                sports = new String[]{DEFAULT_SPORTS[0]};
+                sportWeights = new int[]{1};
+                setTypeWeights(12, 28, 45, 15);
+            }
+            case ROLE_STARVED -> {
+                roleWeights[Role.ATTACKER.ordinal()] = 96;
+                setTypeWeights(12, 28, 45, 15);
+            }
+        }
+    }
+
+    // Relative weights in PersonalityType ordinal order (LEADER, THINKER, BALANCED, ANALYST)
+    public DatasetGenerator setTypeWeights(int... weights) {
+        copyWeights(weights, typeWeights, "personality type");
+        return this;
+    }
+
+    // Relative weights in Role ordinal order
+    public DatasetGenerator setRoleWeights(int... weights) {
+        copyWeights(weights, roleWeights, "role");
+        return this;
+    }
+
+    public DatasetGenerator setSports(String[] sports, int[] weights) {
+        if (sports.length == 0 || sports.length > 127 || sports.length != weights.length) {
+            throw new IllegalArgumentException("Need 1-127 sports with one weight each");
+        }
+        this.sports = sports.clone();
+        this.sportWeights = new int[sports.length];
+        copyWeights(weights, sportWeights, "sport");
+        return this;
+    }
+
+    // Sport k gets weight proportional to 1/k^exponent
+    public DatasetGenerator zipfSports(double exponent) {
+        sportWeights = new int[sports.length];
+        for (int k = 0; k < sports.length; k++) {
+            sportWeights[k] = (int) Math.max(1, Math.round(1000 / Math.pow(k + 1, exponent)));
+        }
+        return this;
+    }
+
+    // Normal skill distribution clamped to 1..10; a negative mean means uniform
+    public DatasetGenerator setSkill(double mean, double deviation) {
+        this.skillMean = mean;
+        this.skillDeviation = deviation;
+        return this;
+    }
+
+    public DatasetGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Receives each generated row; sportId indexes getSports().
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(int number, int sportId, int role, int skill, int score, int type) throws IOException;
+    }
+
+    public String[] getSports() {
+        return sports.clone();
+    }
+
+    public void generate(long rows, RowSink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] typeCumulative = cumulative(typeWeights);
+        int[] roleCumulative = cumulative(roleWeights);
+        int[] sportCumulative = cumulative(sportWeights);
+        int[][] bands = bandsByType();
+
+        for (long i = 0; i < rows; i++) {
+            int type = pick(typeCumulative, random);
+            int[] band = bands[type];
+            int score = band[0] + random.nextInt(band[1] - band[0] + 1);
+            int skill;
+            if (skillMean < 0) {
+                skill = 1 + random.nextInt(10);
+            } else {
+                skill = (int) Math.round(skillMean + random.nextGaussian() * skillDeviation);
+                skill = Math.max(1, Math.min(10, skill));
+            }
+            sink.accept((int) (i + 1), pick(sportCumulative, random), pick(roleCumulative, random),
+                    skill, score, type);
+        }
+    }
+
+    public void writeCsv(Path file, long rows) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType\n");
+            StringBuilder line = new StringBuilder(96);
+            generate(rows, (n, sport, role, skill, score, type) -> {
+                line.setLength(0);
+                line.append(id(n)).append(",Participant_").append(n)
+                        .append(",user").append(n).append("@university.edu,")
+                        .append(sports[sport]).append(',').append(skill).append(',')
+                        .append(ROLES[role]).append(',').append(score).append(',')
+                        .append(TYPES[type]).append('\n');
+                w.append(line);
+            });
+        }
+    }
+
+    public void writeBinary(Path file, long rows) throws IOException {
+        if (rows > Integer.MAX_VALUE) throw new IllegalArgumentException("Binary datasets hold at most 2^31-1 rows");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt((int) rows);
+            out.writeByte(sports.length);
+            for (String sport : sports) {
+                out.writeUTF(sport);
+            }
+            generate(rows, (n, sport, role, skill, score, type) -> {
+                out.writeInt(n);
+                out.writeByte(sport);
+                out.writeByte(role);
+                out.writeByte(skill);
+                out.writeByte(score);
+                out.writeByte(type);
+            });
+        }
+    }
+
+    // Loads a binary dataset straight into columns (benchmarks skip CSV parsing this way)
+    public static ParticipantTable readBinary(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalArgumentException("Not a TeamMate dataset: " + file);
+            }
+            int rows = in.readInt();
+            String[] sportNames = new String[in.readUnsignedByte()];
+            for (int i = 0; i < sportNames.length; i++) {
+                sportNames[i] = in.readUTF();
+            }
+            ParticipantTable table = new ParticipantTable(rows);
+            for (int i = 0; i < rows; i++) {
+                int n = in.readInt();
+                table.add(id(n), "Participant_" + n, "user" + n + "@university.edu",
+                        sportNames[in.readUnsignedByte()], ROLES[in.readUnsignedByte()],
+                        in.readUnsignedByte(), in.readUnsignedByte(), TYPES[in.readUnsignedByte()]);
+            }
+            return table;
+        }
+    }
+
+    // Same rows in memory, for callers that want a table without touching disk
+    public ParticipantTable toTable(int rows) throws IOException {
+        ParticipantTable table = new ParticipantTable(rows);
+        generate(rows, (n, sport, role, skill, score, type) ->
+                table.add(id(n), "Participant_" + n, "user" + n + "@university.edu",
+                        sports[sport], ROLES[role], skill, score, TYPES[type]));
+        return table;
+    }
+
+    /**
+     * Command line: DatasetGenerator <rows> <output> [--format csv|bin] [--profile NAME] [--seed N]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DatasetGenerator <rows> <output> [--format csv|bin] [--profile "
+                    + Arrays.toString(Profile.values()) + "] [--seed N]");
+            System.exit(2);
+        }
+        long rows = Long.parseLong(args[0]);
+        Path out = Paths.get(args[1]);
+        String format = out.toString().endsWith(".bin") ? "bin" : "csv";
+        Profile profile = Profile.REALISTIC;
+        long seed = 42;
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--format" -> format = args[i + 1];
+                case "--profile" -> profile = Profile.valueOf(args[i + 1].toUpperCase());
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        DatasetGenerator generator = new DatasetGenerator(profile).setSeed(seed);
+        if ("bin".equals(format)) {
+            generator.writeBinary(out, rows);
+        } else {
+            generator.writeCsv(out, rows);
+        }
+        System.out.printf("📁 %d %s rows written to %s in %.1f s (%d bytes)%n", rows, profile, out,
+                (System.nanoTime() - start) / 1e9, Files.size(out));
+    }
+
+    private static String id(int n) {
+        return String.format("P%03d", n);
+    }
+
+    private int[][] bandsByType() {
+        int[][] bands = new int[TYPES.length][];
+        for (PersonalityModel.Band band : model.getBands()) {
+            bands[band.getType().ordinal()] = new int[]{band.getMin(), band.getMax()};
+        }
+        for (int t = 0; t < bands.length; t++) {
+            if (bands[t] == null && typeWeights[t] > 0) {
+                throw new IllegalStateException("No score band for " + TYPES[t]);
+            }
+        }
+        return bands;
+    }
+
+    private static void copyWeights(int[] from, int[] to, String what) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("Expected " + to.length + " " + what + " weights");
+        }
+        int total = 0;
+        for (int w : from) {
+            if (w < 0) throw new IllegalArgumentException("Weights must be >= 0");
+            total += w;
+        }
+        if (total == 0) throw new IllegalArgumentException("At least one " + what + " weight must be positive");
+        System.arraycopy(from, 0, to, 0, from.length);
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] sums = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            sums[i] = total;
+        }
+        return sums;
+    }
+
+    private static int pick(int[] cumulative, SplittableRandom random) {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (roll >= cumulative[i]) i++;
+        return i;
+    }
+}
@@ -0,0 +1,34 @@
+package com.seniru.teambuilder.util;
+
+/**
+ * Receives the progress output of the core services (TeamBuilder, CSVHandler, Organizer)
+ * so they never write to the console themselves.
+ * Pick {@link #console()} for the interactive menu, {@link #summarised()} for batch runs
+ * that only need phase totals, and {@link #quiet()} when console speed must not matter.
+ */
+public interface ProgressReporter {
+
+    // Per-item lines: one per team formed, team member, stored row ...
+    void progress(String message);
+
+    // Recoverable problems such as a skipped CSV row or an incomplete team
+    void warn(String message);
+
+    // Failures the user should always hear about
+    void error(String message);
+
+    // Phase headers and totals
+    void summary(String message);
+
+    static ProgressReporter console() {
+        return ConsoleReporter.INSTANCE;
+    }
+
+    static ProgressReporter summarised() {
+        return new SummaryReporter();
+    }
+
+    static ProgressReporter quiet() {
+        return QuietReporter.INSTANCE;
+    }
+}
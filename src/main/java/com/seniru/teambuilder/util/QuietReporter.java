@@ -0,0 +1,26 @@
+package com.seniru.teambuilder.util;
+
+/**
+ * Drops everything except errors, which still go to stderr.
+ */
+public class QuietReporter implements ProgressReporter {
+
+    static final QuietReporter INSTANCE = new QuietReporter();
+
+    @Override
+    public void progress(String message) {
+    }
+
+    @Override
+    public void warn(String message) {
+    }
+
+    @Override
+    public void error(String message) {
+        System.err.println(message);
+    }
+
+    @Override
+    public void summary(String message) {
+    }
+}
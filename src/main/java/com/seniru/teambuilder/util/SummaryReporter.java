@@ -0,0 +1,36 @@
+package com.seniru.teambuilder.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prints summaries and errors only. Per-item lines are dropped and warnings are counted,
+ * then reported as a single line with the next summary.
+ */
+public class SummaryReporter implements ProgressReporter {
+
+    private final AtomicInteger suppressedWarnings = new AtomicInteger();
+
+    @Override
+    public void progress(String message) {
+        // per-item output is what makes large runs terminal-bound, so it is skipped
+    }
+
+    @Override
+    public void warn(String message) {
+        suppressedWarnings.incrementAndGet();
+    }
+
+    @Override
+    public void error(String message) {
+        System.err.println(message);
+    }
+
+    @Override
+    public void summary(String message) {
+        System.out.println(message);
+        int warnings = suppressedWarnings.getAndSet(0);
+        if (warnings > 0) {
+            System.out.println("   (" + warnings + " warnings suppressed)");
+        }
+    }
+}
@@ -8,14 +8,30 @@ import java.time.format.DateTimeFormatter;
 
 public class TeamBuilderLogger {
 
-    private final String fileName;
+    private static final TeamBuilderLogger DISABLED = new TeamBuilderLogger(null);
+
+    private final String fileName;  // null when logging is switched off
     private final DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
 
     public TeamBuilderLogger(String fileName) {
         this.fileName = fileName;
     }
 
-    public synchronized void log(String level, String message) {
+    // Drops every line; for benchmarks and callers that must not touch the file system
+    public static TeamBuilderLogger disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return fileName != null;
+    }
+
+    public void log(String level, String message) {
+        if (fileName == null) return;
+        write(level, message);
+    }
+
+    private synchronized void write(String level, String message) {
         String timestamp = LocalDateTime.now().format(fmt);
         String line = String.format("%s | %s | %s", timestamp, level, message);
 
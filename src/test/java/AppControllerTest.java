@@ -0,0 +1,112 @@
+import com.seniru.teambuilder.app.AppController;
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppControllerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private AppController newController(String name) {
+        CSVHandler csvHandler = new CSVHandler(tempDir.resolve(name + ".csv").toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        return new AppController(csvHandler, tempDir.resolve(name + "-teams.csv").toString());
+    }
+
+    static Participant survey(String name, String email) {
+        Participant p = new Participant();
+        p.setName(name);
+        p.setEmail(email);
+        p.setPreferredSport("Chess");
+        p.setPreferredRole(Role.STRATEGIST);
+        p.setSkillLevel(6);
+        p.setResponses(new int[]{4, 4, 4, 4, 4});
+        return p;
+    }
+
+    @Test
+    void testControllers_DoNotShareRegistrations() {
+        AppController first = newController("first");
+        AppController second = newController("second");
+
+        first.register(survey("Ann", "ann@uni.edu"));
+
+        assertEquals(1, first.getParticipants().size());
+        assertTrue(second.getParticipants().isEmpty());
+        // the same email is still free in the other controller
+        assertDoesNotThrow(() -> second.register(survey("Ann", "ann@uni.edu")));
+    }
+
+    @Test
+    void testRegister_FailedWriteIsNotRegistered() throws Exception {
+        // a directory where the CSV should be makes every append fail
+        Path blocked = Files.createDirectory(tempDir.resolve("blocked.csv"));
+        CSVHandler csvHandler = new CSVHandler(blocked.toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        AppController controller = new AppController(csvHandler, tempDir.resolve("teams.csv").toString());
+
+        assertThrows(UncheckedIOException.class, () -> controller.register(survey("Ann", "ann@uni.edu")));
+        assertTrue(controller.getParticipants().isEmpty());
+    }
+
+    @Test
+    void testRegisterImported_SkipsRegisteredAndRepeatedEmails() throws Exception {
+        AppController controller = newController("import");
+        controller.register(survey("Ann", "ann@uni.edu"));
+
+        Participant again = survey("Ann B", "ANN@uni.edu");
+        again.setParticipantId("P900");
+        Participant bob = survey("Bob", "bob@uni.edu");
+        bob.setParticipantId("P901");
+        Participant bobTwice = survey("Bob", "bob@uni.edu");
+        bobTwice.setParticipantId("P902");
+
+        List<Participant> added = controller.registerImported(List.of(again, bob, bobTwice));
+
+        assertEquals(List.of(bob), added);
+        assertEquals(2, controller.getParticipants().size());
+    }
+
+    @Test
+    void testRegisterImported_SkippedDuplicatesDoNotUseIds() throws Exception {
+        AppController controller = newController("ids");
+        Participant ann = controller.register(survey("Ann", "ann@uni.edu"));
+
+        Participant again = survey("Ann B", "ann@uni.edu");
+        Participant bob = survey("Bob", "bob@uni.edu");
+        Participant bobTwice = survey("Bob", "bob@uni.edu");
+        Participant cara = survey("Cara", "cara@uni.edu");
+
+        controller.registerImported(List.of(again, bob, bobTwice, cara));
+
+        assertEquals("P001", ann.getId());
+        assertEquals("P002", bob.getId());
+        assertEquals("P003", cara.getId());
+        assertNull(again.getId());
+        assertNull(bobTwice.getId());
+    }
+
+    @Test
+    void testRegister_RejectsResponsesThatDoNotFitTheModel() {
+        AppController controller = newController("responses");
+        Participant shortSurvey = survey("Ann", "ann@uni.edu");
+        shortSurvey.setResponses(new int[]{4, 4, 4});
+        Participant outOfScale = survey("Bob", "bob@uni.edu");
+        outOfScale.setResponses(new int[]{4, 4, 4, 4, 9});
+
+        assertThrows(IllegalArgumentException.class, () -> controller.register(shortSurvey));
+        assertThrows(IllegalArgumentException.class, () -> controller.register(outOfScale));
+        assertTrue(controller.getParticipants().isEmpty());
+    }
+}
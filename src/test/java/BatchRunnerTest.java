@@ -0,0 +1,107 @@
+import com.seniru.teambuilder.app.BatchRunner;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.CSVHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFullPipeline_WritesTeamsAndExitsZero() throws IOException {
+        Path input = tempDir.resolve("participants.csv");
+        Path surveys = tempDir.resolve("surveys.csv");
+        Path output = tempDir.resolve("teams.csv");
+        Files.writeString(input, """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,Ann,ann@uni.edu,Chess,7,ATTACKER,95,LEADER
+                P002,Ben,ben@uni.edu,FIFA,5,DEFENDER,60,THINKER
+                P003,Cal,cal@uni.edu,Golf,6,SUPPORTER,75,BALANCED
+                """);
+        Files.writeString(surveys, """
+                Dee,dee@uni.edu,Chess,Coordinator,6,5,5,5,5,5
+                Eve,eve@uni.edu,Golf,Strategist,4,3,3,3,3,3
+                Fay,fay@uni.edu,FIFA,Attacker,8,4,4,4,4,3
+                """);
+
+        int status = BatchRunner.run(new String[]{"all", "--input", input.toString(),
+                "--surveys", surveys.toString(), "--output", output.toString(),
+                "--teamSize", "3", "--quiet"});
+
+        assertEquals(BatchRunner.EXIT_OK, status);
+        List<Team> teams = new CSVHandler().loadFormedTeams(output.toString());
+        assertEquals(2, teams.size());
+        assertFalse(Files.readString(input).contains("Dee"), "The input file is only read");
+        assertTrue(Files.readString(output).contains("Dee"), "Classified surveys are formed into teams");
+    }
+
+    @Test
+    void testClassifyTwice_WritesOutputAndLeavesInputUnchanged() throws IOException {
+        Path input = tempDir.resolve("participants.csv");
+        Path surveys = tempDir.resolve("surveys.csv");
+        Path output = tempDir.resolve("classified.csv");
+        Files.writeString(input, """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,Ann,ann@uni.edu,Chess,7,ATTACKER,95,LEADER
+                """);
+        Files.writeString(surveys, """
+                Dee,dee@uni.edu,Chess,Coordinator,6,5,5,5,5,5
+                """);
+        String original = Files.readString(input);
+        String[] args = {"load", "classify", "--input", input.toString(),
+                "--surveys", surveys.toString(), "--output", output.toString(), "--quiet"};
+
+        assertEquals(BatchRunner.EXIT_OK, BatchRunner.run(args));
+        assertEquals(BatchRunner.EXIT_OK, BatchRunner.run(args));
+
+        assertEquals(original, Files.readString(input));
+        List<String> ids = new CSVHandler().loadParticipants(output.toString()).stream()
+                .map(p -> p.getId()).toList();
+        assertEquals(List.of("P001", "P002"), ids, "Classified surveys continue the id sequence");
+    }
+
+    @Test
+    void testDedupeLast_KeepsLatestRepeatedRow() throws IOException {
+        Path input = tempDir.resolve("participants.csv");
+        Path surveys = Files.writeString(tempDir.resolve("surveys.csv"), "");
+        Path output = tempDir.resolve("classified.csv");
+        Files.writeString(input, """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,Ann,ann@uni.edu,Chess,7,ATTACKER,95,LEADER
+                P002,Ben,ben@uni.edu,FIFA,5,DEFENDER,60,THINKER
+                P001,AnnLater,ann@uni.edu,Chess,8,ATTACKER,95,LEADER
+                """);
+
+        int status = BatchRunner.run(new String[]{"load", "classify", "--dedupe", "last", "--input", input.toString(),
+                "--surveys", surveys.toString(), "--output", output.toString(), "--quiet"});
+
+        assertEquals(BatchRunner.EXIT_OK, status);
+        List<String> names = new CSVHandler().loadParticipants(output.toString()).stream()
+                .map(p -> p.getName()).toList();
+        assertEquals(List.of("AnnLater", "Ben"), names);
+    }
+
+    @Test
+    void testBadArguments_ExitWithUsageCode() {
+        assertEquals(BatchRunner.EXIT_USAGE, BatchRunner.run(new String[]{"form", "--teamSize"}));
+        assertEquals(BatchRunner.EXIT_USAGE, BatchRunner.run(new String[]{"--bogus"}));
+        assertEquals(BatchRunner.EXIT_USAGE, BatchRunner.run(new String[]{"classify"}));
+        assertEquals(BatchRunner.EXIT_USAGE, BatchRunner.run(new String[]{"load", "--dedupe", "newest"}));
+    }
+
+    @Test
+    void testMissingInput_FailsWithoutTeams() {
+        int status = BatchRunner.run(new String[]{"load", "form",
+                "--input", tempDir.resolve("missing.csv").toString(), "--quiet"});
+        assertEquals(BatchRunner.EXIT_FAILED, status);
+    }
+}
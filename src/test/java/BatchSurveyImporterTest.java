@@ -0,0 +1,104 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.BatchSurveyImporter;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.service.IdAllocator;
+import com.seniru.teambuilder.service.ImportResult;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSurveyImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CSVHandler csvHandler;
+    private BatchSurveyImporter importer;
+    private String csvPath;
+
+    @BeforeEach
+    void setUp() {
+        csvPath = tempDir.resolve("participants.csv").toString();
+        csvHandler = new CSVHandler(csvPath);
+        csvHandler.setReporter(ProgressReporter.quiet());
+        importer = new BatchSurveyImporter(PersonalityModel.defaultModel(),
+                new IdAllocator("P", 1, 16), csvHandler);
+        importer.setReporter(ProgressReporter.quiet());
+    }
+
+    @Test
+    void testImportFrom_ValidatesClassifiesAndStores() throws IOException {
+        String input = """
+                name,email,sport,role,skill,r1,r2,r3,r4,r5
+                Alice,alice@uni.edu,Chess,strategist,7,5,5,5,5,5
+                Bob,not-an-email,Chess,Attacker,5,3,3,3,3,3
+                Cara,cara@uni.edu,FIFA,Defender,11,3,3,3,3,3
+                Dan,dan@uni.edu,FIFA,Supporter,4,2,2,2,2,2
+                """;
+
+        ImportResult result = importer.importFrom(new StringReader(input));
+
+        assertEquals(4, result.getRowsRead());
+        assertEquals(2, result.getInvalidRows());
+        List<Participant> imported = result.getParticipants();
+        assertEquals(2, imported.size());
+        assertEquals("P001", imported.get(0).getId());
+        assertEquals(Role.STRATEGIST, imported.get(0).getPreferredRole());
+        assertEquals(PersonalityType.LEADER, imported.get(0).getPersonalityType());
+        assertEquals("P002", imported.get(1).getId());
+        assertEquals(PersonalityType.ANALYST, imported.get(1).getPersonalityType());
+
+        List<Participant> stored = csvHandler.loadParticipants(csvPath);
+        assertEquals(2, stored.size());
+        assertEquals("Dan", stored.get(1).getName());
+    }
+
+    @Test
+    void testImportStream_ManyLinesKeepInputOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            input.append("User").append(i).append(",user").append(i).append("@uni.edu,Chess,Attacker,5,4,4,4,4,4\n");
+        }
+
+        ImportResult result = importer.importStream(new ByteArrayInputStream(input.toString().getBytes()));
+
+        assertEquals(2_000, result.getParticipants().size());
+        assertEquals("User1999", result.getParticipants().get(1_999).getName());
+        assertEquals("P2000", result.getParticipants().get(1_999).getId());
+    }
+
+    @Test
+    void testImportFrom_WarningsNameTheFileLine() throws IOException {
+        List<String> warnings = new ArrayList<>();
+        importer.setReporter(new ProgressReporter() {
+            public void progress(String message) { }
+            public void warn(String message) { warnings.add(message); }
+            public void error(String message) { }
+            public void summary(String message) { }
+        });
+        String input = """
+                name,email,sport,role,skill,r1,r2,r3,r4,r5
+                Alice,alice@uni.edu,Chess,Strategist,7,5,5,5,5,5
+
+                Bob,not-an-email,Chess,Attacker,5,3,3,3,3,3
+                """;
+
+        importer.importFrom(new StringReader(input));
+
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains("line 4:"), warnings.get(0));
+    }
+}
@@ -2,6 +2,8 @@
 
 import com.seniru.teambuilder.model.*;
 import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.service.DuplicatePolicy;
+import com.seniru.teambuilder.service.ImportResult;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -224,6 +226,66 @@ class CSVHandlerTest {
     }
 
 
+    @Test
+    @DisplayName("Should keep the first row per id or email with FIRST_WINS")
+    void testImportParticipantsFirstWins() throws IOException {
+        String csvContent = """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,John,john@example.com,Football,7,ATTACKER,85,LEADER
+                P002,Jane,jane@example.com,Basketball,8,DEFENDER,90,THINKER
+                P001,John Again,john2@example.com,Chess,3,ATTACKER,85,LEADER
+                P003,Jane Copy,JANE@example.com,Chess,3,DEFENDER,90,THINKER
+                """;
+        Files.writeString(Path.of(testFilePath), csvContent);
+
+        ImportResult result = csvHandler.importParticipants(testFilePath, DuplicatePolicy.FIRST_WINS);
+
+        assertEquals(2, result.getParticipants().size());
+        assertEquals(2, result.getDuplicatesMerged());
+        assertEquals(4, result.getRowsRead());
+        assertEquals("John", result.getParticipants().get(0).getName());
+        assertEquals("Jane", result.getParticipants().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("Should replace earlier rows in place with LAST_WINS")
+    void testImportParticipantsLastWins() throws IOException {
+        String csvContent = """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,John,john@example.com,Football,7,ATTACKER,85,LEADER
+                P002,Jane,jane@example.com,Basketball,8,DEFENDER,90,THINKER
+                P001,John Updated,john.new@example.com,Chess,3,ATTACKER,85,LEADER
+                P004,John Newer,john.new@example.com,Chess,4,ATTACKER,85,LEADER
+                """;
+        Files.writeString(Path.of(testFilePath), csvContent);
+
+        ImportResult result = csvHandler.importParticipants(testFilePath, DuplicatePolicy.LAST_WINS);
+
+        assertEquals(2, result.getParticipants().size());
+        assertEquals(2, result.getDuplicatesMerged());
+        assertEquals("John Newer", result.getParticipants().get(0).getName());
+        assertEquals("P002", result.getParticipants().get(1).getParticipantId());
+    }
+
+    @Test
+    @DisplayName("Should drop both earlier rows when LAST_WINS matches one by id and another by email")
+    void testImportParticipantsLastWinsAcrossKeys() throws IOException {
+        String csvContent = """
+                id,name,email,preferredSport,skillLevel,preferredRole,personalityScore,personalityType
+                P001,John,john@example.com,Football,7,ATTACKER,85,LEADER
+                P002,Jane,jane@example.com,Basketball,8,DEFENDER,90,THINKER
+                P003,Ian,ian@example.com,Golf,5,SUPPORTER,60,BALANCED
+                P001,John Moved,JANE@example.com,Chess,3,ATTACKER,85,LEADER
+                """;
+        Files.writeString(Path.of(testFilePath), csvContent);
+
+        ImportResult result = csvHandler.importParticipants(testFilePath, DuplicatePolicy.LAST_WINS);
+
+        List<Participant> participants = result.getParticipants();
+        assertEquals(List.of("P001", "P003"), participants.stream().map(Participant::getParticipantId).toList());
+        assertEquals("John Moved", participants.get(0).getName());
+        assertEquals(2, result.getDuplicatesMerged());
+    }
 
     @Test
     @DisplayName("Should return empty list when formed teams file does not exist")
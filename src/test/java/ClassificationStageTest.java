@@ -0,0 +1,68 @@
+
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.ClassificationStage;
+import com.seniru.teambuilder.service.PersonalityClassifier;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassificationStageTest {
+
+    private Participant surveyParticipant(int... responses) {
+        Participant p = new Participant();
+        p.setResponses(responses);
+        return p;
+    }
+
+    @Test
+    void testProcess_ClassifiesAcrossChunks() {
+        // chunk size 3 forces several fork-join splits
+        ClassificationStage stage = new ClassificationStage(new PersonalityClassifier(), ForkJoinPool.commonPool(), 3);
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int r = (i % 5) + 1;
+            participants.add(surveyParticipant(r, r, r, r, r));
+        }
+
+        stage.process(participants);
+
+        PersonalityClassifier classifier = new PersonalityClassifier();
+        for (int i = 0; i < participants.size(); i++) {
+            int r = (i % 5) + 1;
+            int expectedScore = r * 5 * 4;
+            assertEquals(expectedScore, participants.get(i).getPersonalityScore());
+            assertEquals(classifier.classifyPersonality(expectedScore), participants.get(i).getPersonalityType());
+        }
+    }
+
+    @Test
+    void testProcess_LeavesPreclassifiedParticipantsUntouched() {
+        ClassificationStage stage = new ClassificationStage();
+        Participant loaded = new Participant("P1", "Alice", "alice@example.com", "Football",
+                Role.ATTACKER, 7, 64, PersonalityType.THINKER);
+        Participant invalid = surveyParticipant(1, 2, 3);
+        List<Participant> participants = new ArrayList<>(List.of(loaded, invalid));
+
+        stage.process(participants);
+
+        assertEquals(64, loaded.getPersonalityScore());
+        assertEquals(PersonalityType.THINKER, loaded.getPersonalityType());
+        assertEquals(0, invalid.getPersonalityScore());
+        assertNull(invalid.getPersonalityType());
+    }
+
+    @Test
+    void testClassify_SingleParticipantInline() {
+        Participant p = new ClassificationStage().classify(surveyParticipant(5, 5, 5, 5, 5));
+
+        assertEquals(100, p.getPersonalityScore());
+        assertEquals(PersonalityType.LEADER, p.getPersonalityType());
+    }
+}
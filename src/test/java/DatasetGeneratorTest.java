@@ -0,0 +1,72 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.util.DatasetGenerator;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteCsv_LoadsThroughCSVHandler() throws IOException {
+        Path file = tempDir.resolve("participants.csv");
+        new DatasetGenerator().writeCsv(file, 500);
+
+        CSVHandler csvHandler = new CSVHandler(file.toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        List<Participant> loaded = csvHandler.loadParticipants(file.toString());
+
+        assertEquals(500, loaded.size());
+        assertEquals("P001", loaded.get(0).getId());
+        for (Participant p : loaded) {
+            assertTrue(p.getSkillLevel() >= 1 && p.getSkillLevel() <= 10);
+        }
+    }
+
+    @Test
+    void testBinaryRoundTrip_MatchesInMemoryRows() throws IOException {
+        Path file = tempDir.resolve("participants.bin");
+        DatasetGenerator generator = new DatasetGenerator(DatasetGenerator.Profile.SKEWED).setSeed(7);
+        generator.writeBinary(file, 1_000);
+
+        ParticipantTable fromDisk = DatasetGenerator.readBinary(file);
+        ParticipantTable inMemory = generator.toTable(1_000);
+
+        assertEquals(1_000, fromDisk.size());
+        for (int row = 0; row < 1_000; row += 97) {
+            assertEquals(inMemory.id(row), fromDisk.id(row));
+            assertEquals(inMemory.sport(row), fromDisk.sport(row));
+            assertEquals(inMemory.type(row), fromDisk.type(row));
+            assertEquals(inMemory.score(row), fromDisk.score(row));
+        }
+    }
+
+    @Test
+    void testAdversarialProfiles_SkewTheirDimension() throws IOException {
+        ParticipantTable fewLeaders = new DatasetGenerator(DatasetGenerator.Profile.FEW_LEADERS).toTable(10_000);
+        ParticipantTable roleStarved = new DatasetGenerator(DatasetGenerator.Profile.ROLE_STARVED).toTable(10_000);
+        ParticipantTable singleSport = new DatasetGenerator(DatasetGenerator.Profile.SINGLE_SPORT).toTable(1_000);
+
+        int leaders = 0;
+        int attackers = 0;
+        for (int row = 0; row < 10_000; row++) {
+            if (fewLeaders.type(row) == PersonalityType.LEADER) leaders++;
+            if (roleStarved.role(row) == Role.ATTACKER) attackers++;
+        }
+        assertTrue(leaders < 300, "About 1% leaders expected, got " + leaders);
+        assertTrue(attackers > 9_000, "About 96% attackers expected, got " + attackers);
+        assertEquals(1, singleSport.sportCount());
+    }
+}
@@ -0,0 +1,39 @@
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationResult;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builder setup and result checks shared by the formation mode tests.
+ */
+final class FormationTestSupport {
+
+    private FormationTestSupport() {
+    }
+
+    static TeamBuilder newBuilder(TeamBuilder.FormationMode mode, int threads,
+                                  TeamBuilder.FlexiblePhaseDecider decider) {
+        TeamBuilder builder = new TeamBuilder(4);
+        builder.setReporter(ProgressReporter.quiet());
+        builder.setFlexiblePhaseDecider(decider);
+        builder.setMaxThreads(threads);
+        builder.setFormationMode(mode);
+        return builder;
+    }
+
+    // Every row is in exactly one team or reported unplaced
+    static void assertPlacedOnce(ParticipantTable table, FormationResult result) {
+        Set<String> seen = new HashSet<>();
+        for (Team team : result.getTeams()) {
+            team.forEachMember(p -> assertTrue(seen.add(p.getId()), "Placed twice: " + p.getId()));
+        }
+        result.getUnplaced().forEach(p -> assertTrue(seen.add(p.getId()), "Placed and unplaced: " + p.getId()));
+        assertEquals(table.size(), seen.size());
+    }
+}
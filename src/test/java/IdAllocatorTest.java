@@ -0,0 +1,124 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.IdAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdAllocatorTest {
+
+    @Test
+    void testNext_SingleStripeIsSequential() {
+        IdAllocator allocator = new IdAllocator("P", 1, 4);
+        assertEquals("P001", allocator.next());
+        assertEquals("P002", allocator.next());
+        assertEquals("P003", allocator.next());
+        assertEquals("P004", allocator.next());
+        assertEquals("P005", allocator.next());
+    }
+
+    @Test
+    void testResumeAfter_ContinuesFromHighestLoadedId() {
+        IdAllocator allocator = new IdAllocator("P", 1, 8);
+        allocator.next();   // block reserved before the load must not be reused
+        List<Participant> loaded = List.of(
+                new Participant("P007", "A", "a@test.com", "Chess", Role.ATTACKER, 5, 60, PersonalityType.THINKER),
+                new Participant("P120", "B", "b@test.com", "Chess", Role.ATTACKER, 5, 60, PersonalityType.THINKER),
+                new Participant("X999", "C", "c@test.com", "Chess", Role.ATTACKER, 5, 60, PersonalityType.THINKER));
+
+        allocator.resumeAfter(loaded);
+
+        assertEquals("P121", allocator.next());
+        assertEquals(120, allocator.parse("P120"));
+        assertEquals(0, allocator.parse("X999"));
+    }
+
+    @Test
+    void testNext_UniqueUnderConcurrentRegistration() throws InterruptedException {
+        IdAllocator allocator = new IdAllocator("P", 4, 16);
+        int threads = 8;
+        int perThread = 2_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    assertTrue(ids.add(allocator.next()));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void testResumeAfter_WhileOtherThreadsAllocate() throws InterruptedException {
+        IdAllocator allocator = new IdAllocator("P", 4, 4);
+        long highest = 1_000_000;
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        AtomicBoolean resumed = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    boolean after = resumed.get();
+                    long n = allocator.nextNumber();
+                    assertTrue(numbers.add(n));
+                    // once resumeAfter has returned, nothing at or below the loaded ids may be issued
+                    if (after) assertTrue(n > highest, "issued " + n + " after resuming at " + highest);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        while (numbers.size() < threads * perThread / 4) {
+            Thread.onSpinWait();
+        }
+        allocator.resumeAfter(highest);
+        resumed.set(true);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, numbers.size());
+    }
+
+    @Test
+    void testRepairIds_GivesSharedPlaceholderIdsFreshOnes() {
+        IdAllocator allocator = new IdAllocator("P", 1, 8);
+        List<Participant> legacy = List.of(
+                new Participant("P001", "Alice", "alice@example.com", "Chess", Role.STRATEGIST, 5, 60, PersonalityType.LEADER),
+                new Participant("P001", "Bob", "bob@example.com", "Chess", Role.DEFENDER, 5, 60, PersonalityType.THINKER),
+                new Participant("P001", "Alice", "ALICE@example.com", "Chess", Role.STRATEGIST, 5, 60, PersonalityType.LEADER),
+                new Participant(null, "Cara", "cara@example.com", "Chess", Role.ATTACKER, 5, 60, PersonalityType.BALANCED));
+        allocator.resumeAfter(legacy);
+
+        assertEquals(2, allocator.repairIds(legacy));
+
+        assertEquals("P001", legacy.get(0).getId());
+        assertEquals("P002", legacy.get(1).getId());
+        assertEquals("P001", legacy.get(2).getId(), "Same email is the same person and keeps the id");
+        assertEquals("P003", legacy.get(3).getId());
+    }
+}
@@ -0,0 +1,81 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.ParticipantRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantRegistryTest {
+
+    private Participant participant(String id, String sport, PersonalityType type) {
+        return new Participant(id, "Name_" + id, id + "@test.com", sport, Role.ATTACKER, 5, 60, type);
+    }
+
+    @Test
+    void testAdd_IndexesAndRejectsDuplicateId() {
+        ParticipantRegistry registry = new ParticipantRegistry();
+        assertTrue(registry.add(participant("P1", "Football", PersonalityType.LEADER)));
+        assertTrue(registry.add(participant("P2", "Chess", PersonalityType.THINKER)));
+        assertFalse(registry.add(participant("P1", "Chess", PersonalityType.THINKER)));
+
+        assertEquals(2, registry.size());
+        assertEquals("P2", registry.findByEmail("P2@TEST.com").getId());
+        assertEquals("Name_P1", registry.findById("P1").getName());
+        assertEquals(1, registry.findBySport("football").size());
+        assertEquals(1, registry.countByType(PersonalityType.THINKER));
+    }
+
+    @Test
+    void testSnapshot_KeepsRegistrationOrderAndIsStable() {
+        ParticipantRegistry registry = new ParticipantRegistry();
+        registry.add(participant("P1", "Football", PersonalityType.LEADER));
+        registry.add(participant("P2", "Chess", PersonalityType.THINKER));
+
+        List<Participant> before = registry.snapshot();
+        assertSame(before, registry.snapshot(), "Unchanged registry should reuse its snapshot");
+
+        registry.add(participant("P3", "Golf", PersonalityType.BALANCED));
+        assertEquals(2, before.size(), "Earlier snapshots should not change");
+        assertEquals("P3", registry.snapshot().get(2).getId());
+        assertThrows(UnsupportedOperationException.class, () -> before.remove(0));
+    }
+
+    @Test
+    void testConcurrentRegistrations_NoneLost() throws InterruptedException {
+        ParticipantRegistry registry = new ParticipantRegistry();
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    registry.add(participant("P" + (base + i), "Football", PersonalityType.BALANCED));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Participant> all = registry.snapshot();
+        assertEquals(threads * perThread, all.size());
+        Set<String> ids = new HashSet<>();
+        all.forEach(p -> ids.add(p.getId()));
+        assertEquals(threads * perThread, ids.size());
+        assertEquals(threads * perThread, registry.findBySport("Football").size());
+    }
+}
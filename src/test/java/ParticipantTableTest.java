@@ -0,0 +1,71 @@
+
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.TeamBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantTableTest {
+
+    @Test
+    void testOf_KeepsOriginalParticipantsAsView() {
+        Participant alice = new Participant("P1", "Alice", "alice@example.com", "Football",
+                Role.ATTACKER, 7, 92, PersonalityType.LEADER);
+        Participant bob = new Participant("P2", "Bob", "bob@example.com", "FOOTBALL",
+                Role.DEFENDER, 5, 60, PersonalityType.THINKER);
+
+        ParticipantTable table = ParticipantTable.of(List.of(alice, bob));
+        List<Participant> view = table.asList();
+
+        assertEquals(2, view.size());
+        assertSame(alice, view.get(0));
+        assertSame(bob, view.get(1));
+        // sports are encoded case-insensitively, like Team.countGame
+        assertEquals(1, table.sportCount());
+        assertEquals(table.sportId(0), table.sportId(1));
+        assertEquals(Role.DEFENDER.ordinal(), table.roleOrdinal(1));
+        assertEquals(PersonalityType.THINKER.ordinal(), table.typeOrdinal(1));
+        assertEquals(7, table.skill(0));
+    }
+
+    @Test
+    void testAddRaw_MaterialisesParticipantOnce() {
+        ParticipantTable table = new ParticipantTable(1);
+        for (int i = 0; i < 40; i++) {   // forces several column resizes
+            table.add("P" + i, "Name" + i, "p" + i + "@example.com", "Sport" + (i % 3),
+                    Role.values()[i % 5], i % 10, 50, null);
+        }
+
+        assertEquals(40, table.size());
+        assertEquals(3, table.sportCount());
+        assertEquals(ParticipantTable.NONE, table.typeOrdinal(39));
+
+        Participant p = table.participant(39);
+        assertEquals("P39", p.getId());
+        assertEquals("Sport0", p.getPreferredSport());
+        assertNull(p.getPersonalityType());
+        assertSame(p, table.participant(39));
+    }
+
+    @Test
+    void testBuildTeams_FromTableRows() throws Exception {
+        ParticipantTable table = new ParticipantTable();
+        PersonalityType[] types = {PersonalityType.LEADER, PersonalityType.THINKER, PersonalityType.BALANCED};
+        for (int i = 0; i < 9; i++) {
+            table.add("P" + i, "Name" + i, "p" + i + "@example.com", "Sport" + i,
+                    Role.values()[i % 5], 5, 50, types[i / 3]);
+        }
+
+        List<Team> teams = new TeamBuilder(3, 2, 3).buildTeamsWithConcurrency(table);
+
+        assertEquals(3, teams.size());
+        assertEquals(9, teams.stream().mapToInt(Team::getCurrentSize).sum());
+    }
+}
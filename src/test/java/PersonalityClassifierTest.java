@@ -93,4 +93,56 @@ class PersonalityClassifierTest {
         assertEquals(0, p.getPersonalityScore());
         assertNull(p.getPersonalityType());
     }
+
+    @Test
+    void testClassifyParticipant_InvalidResponsesClearPreviousType() {
+        Participant p = new Participant();
+        p.setResponses(new int[]{5, 5, 5, 5, 5});
+        classifier.classifyParticipant(p);
+        p.setResponses(new int[]{0, 6, 3, 4, 2}); // re-submitted with invalid answers
+        classifier.classifyParticipant(p);
+        assertEquals(0, p.getPersonalityScore());
+        assertNull(p.getPersonalityType());
+    }
+
+    // Test classifyBatch
+    @Test
+    void testClassifyBatch_MatchesSingleClassification() {
+        int[] responses = {
+                5, 5, 5, 5, 5,   // 100 -> LEADER
+                4, 4, 4, 3, 4,   // 76  -> BALANCED
+                3, 3, 3, 3, 3,   // 60  -> THINKER
+                1, 1, 1, 2, 1    // 24  -> ANALYST
+        };
+        int[] scores = new int[4];
+        PersonalityType[] types = new PersonalityType[4];
+
+        assertEquals(4, classifier.classifyBatch(responses, scores, types));
+        assertArrayEquals(new int[]{100, 76, 60, 24}, scores);
+        assertArrayEquals(new PersonalityType[]{
+                PersonalityType.LEADER, PersonalityType.BALANCED,
+                PersonalityType.THINKER, PersonalityType.ANALYST}, types);
+    }
+
+    @Test
+    void testClassifyBatch_InvalidRowLeavesNullType() {
+        int[] responses = {
+                0, 6, 3, 4, 2,
+                5, 5, 5, 5, 4
+        };
+        int[] scores = new int[2];
+        PersonalityType[] types = new PersonalityType[2];
+
+        assertEquals(1, classifier.classifyBatch(responses, scores, types));
+        assertEquals(0, scores[0]);
+        assertNull(types[0]);
+        assertEquals(96, scores[1]);
+        assertEquals(PersonalityType.LEADER, types[1]);
+    }
+
+    @Test
+    void testClassifyBatch_ShortBlock_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> classifier.classifyBatch(new int[]{1, 2, 3}, new int[1], new PersonalityType[1]));
+    }
 }
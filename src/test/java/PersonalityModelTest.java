@@ -0,0 +1,85 @@
+
+
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.service.PersonalityClassifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonalityModelTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String writeModel(String... lines) throws IOException {
+        Path file = tempDir.resolve("model.txt");
+        Files.write(file, List.of(lines));
+        return file.toString();
+    }
+
+    @Test
+    void testDefaultModel_MatchesOriginalRules() {
+        PersonalityModel model = PersonalityModel.defaultModel();
+
+        assertEquals(5, model.getQuestionCount());
+        for (int total = 5; total <= 25; total++) {
+            int scaled = total * 4;
+            assertEquals(scaled, model.scaledScore(total));
+            PersonalityType expected = scaled >= 90 ? PersonalityType.LEADER
+                    : scaled >= 70 ? PersonalityType.BALANCED
+                    : scaled >= 50 ? PersonalityType.THINKER
+                    : PersonalityType.ANALYST;
+            assertEquals(expected, model.typeAt(total), "total " + total);
+        }
+    }
+
+    @Test
+    void testLoad_WeightedModel() throws IOException {
+        String path = writeModel(
+                "# two questions, the first counts three times",
+                "QUESTION,3,I lead, and others follow.",
+                "QUESTION,1,I like puzzles.",
+                "BAND,LEADER,80,100",
+                "BAND,ANALYST,20,79");
+
+        PersonalityModel model = PersonalityModel.load(path);
+        PersonalityClassifier classifier = new PersonalityClassifier(model);
+
+        assertEquals(2, model.getQuestionCount());
+        assertEquals("I lead, and others follow.", model.getQuestion(0));
+        // 3*5 + 1*1 = 16 of 20 -> 80
+        assertEquals(16, classifier.computeTotalScore(new int[]{5, 1}));
+        assertEquals(80, classifier.computeScaledScore(16));
+        assertEquals(PersonalityType.LEADER, classifier.classifyPersonality(80));
+
+        int[] scores = new int[2];
+        PersonalityType[] types = new PersonalityType[2];
+        classifier.classifyBatch(new int[]{5, 1, 1, 5}, scores, types);
+        assertArrayEquals(new int[]{80, 40}, scores);
+        assertArrayEquals(new PersonalityType[]{PersonalityType.LEADER, PersonalityType.ANALYST}, types);
+    }
+
+    @Test
+    void testLoad_BandsNotCoveringScores_Throws() throws IOException {
+        String path = writeModel(
+                "QUESTION,1,Only question",
+                "BAND,LEADER,90,100");
+
+        assertThrows(IllegalArgumentException.class, () -> PersonalityModel.load(path));
+    }
+
+    @Test
+    void testLoad_UnknownEntry_Throws() throws IOException {
+        String path = writeModel("WEIGHT,1,2");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PersonalityModel.load(path));
+        assertTrue(e.getMessage().contains("line 1"));
+    }
+}
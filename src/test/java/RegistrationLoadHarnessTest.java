@@ -0,0 +1,73 @@
+import com.seniru.teambuilder.app.AppController;
+import com.seniru.teambuilder.app.RegistrationLoadHarness;
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.service.IdAllocator;
+import com.seniru.teambuilder.service.ParticipantRegistry;
+import com.seniru.teambuilder.util.LatencyHistogram;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistrationLoadHarnessTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRun_ReportsThroughputAndOrderedPercentiles() throws Exception {
+        Path csv = tempDir.resolve("participants.csv");
+        CSVHandler csvHandler = new CSVHandler(csv.toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        AppController controller = new AppController(csvHandler, tempDir.resolve("teams.csv").toString());
+
+        RegistrationLoadHarness.Result result = new RegistrationLoadHarness(controller, 4, 50, 300, false).run();
+
+        assertTrue(result.registrations > 0);
+        assertEquals(0, result.errors);
+        assertEquals(result.registrations, result.latency.getCount());
+        assertTrue(result.latency.percentile(50) <= result.latency.percentile(99));
+        assertTrue(result.latency.percentile(99) <= result.latency.percentile(99.9));
+        // warm-up registrations are persisted too, so the file holds at least the measured ones
+        assertTrue(Files.readAllLines(csv).size() > result.registrations);
+    }
+
+    @Test
+    void testRun_AnswersTheControllersModel() throws Exception {
+        PersonalityModel sevenQuestions = new PersonalityModel(
+                new String[]{"Q1", "Q2", "Q3", "Q4", "Q5", "Q6", "Q7"}, new int[]{1, 1, 1, 1, 1, 1, 1},
+                List.of(new PersonalityModel.Band(PersonalityType.LEADER, 90, 100),
+                        new PersonalityModel.Band(PersonalityType.BALANCED, 70, 89),
+                        new PersonalityModel.Band(PersonalityType.THINKER, 50, 69),
+                        new PersonalityModel.Band(PersonalityType.ANALYST, 0, 49)));
+        CSVHandler csvHandler = new CSVHandler(tempDir.resolve("participants.csv").toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        AppController controller = new AppController(csvHandler, tempDir.resolve("teams.csv").toString(),
+                new ParticipantRegistry(), new IdAllocator(), sevenQuestions);
+
+        RegistrationLoadHarness.Result result = new RegistrationLoadHarness(controller, 2, 20, 150, false).run();
+
+        assertTrue(result.registrations > 0);
+        assertEquals(0, result.errors);
+    }
+
+    @Test
+    void testLatencyHistogram_PercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v * 1_000);   // 1 µs .. 100 ms
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000_000, histogram.percentile(50), 50_000_000 * 0.02);
+        assertEquals(99_000_000, histogram.percentile(99), 99_000_000 * 0.02);
+        assertEquals(100_000_000, histogram.getMax());
+    }
+}
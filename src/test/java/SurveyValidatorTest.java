@@ -0,0 +1,36 @@
+import com.seniru.teambuilder.model.PersonalityModel;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.service.SurveyValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SurveyValidatorTest {
+
+    @Test
+    void testLookupRole_IgnoresCaseAndWhitespace() {
+        assertEquals(Role.SUPPORTER, SurveyValidator.lookupRole("  supporter "));
+        assertEquals(Role.STRATEGIST, SurveyValidator.lookupRole("Strategist"));
+        assertNull(SurveyValidator.lookupRole("Support"));
+        assertNull(SurveyValidator.lookupRole(""));
+    }
+
+    @Test
+    void testParseInt_ReturnsInvalidInsteadOfThrowing() {
+        assertEquals(7, SurveyValidator.parseInt(" 7 "));
+        assertEquals(SurveyValidator.INVALID, SurveyValidator.parseInt("seven"));
+        assertEquals(SurveyValidator.INVALID, SurveyValidator.parseInt("-1"));
+        assertEquals(SurveyValidator.INVALID, SurveyValidator.parseInt(""));
+        assertFalse(SurveyValidator.isValidSkill(SurveyValidator.parseInt("11")));
+    }
+
+    @Test
+    void testEmailAndResponses() {
+        SurveyValidator validator = new SurveyValidator(PersonalityModel.defaultModel());
+        assertTrue(SurveyValidator.isValidEmail("a.b@uni.edu"));
+        assertFalse(SurveyValidator.isValidEmail("a.b@uni"));
+        assertTrue(validator.isValidResponses(new int[]{1, 2, 3, 4, 5}));
+        assertFalse(validator.isValidResponses(new int[]{1, 2, 3, 4, 6}));
+        assertFalse(validator.isValidResponses(new int[]{1, 2, 3}));
+    }
+}
@@ -328,6 +328,35 @@ public class TeamBuilderConcurrencyTest {
         }
     }
 
+    @Test
+    @Timeout(30)
+    void testConcurrency_RoleDiversityConstraint() throws Exception {
+        List<Participant> participants = createBalancedParticipants(40);
+
+        List<Team> teams = teamBuilder.buildTeamsWithConcurrency(participants);
+
+        // minRoles = 3: strict teams cover at least three roles, distribution only adds members
+        for (Team team : teams) {
+            assertTrue(team.getRoleCount() >= 3,
+                    "Team " + team.getID() + " covers only " + team.getRoleCount() + " roles");
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void testConcurrency_RefusesTeamsThatCannotReachMinRoles() throws Exception {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            PersonalityType type = i < 2 ? PersonalityType.LEADER
+                    : i < 4 ? PersonalityType.THINKER : PersonalityType.BALANCED;
+            participants.add(createParticipant("S" + i, type, "Sport" + i, Role.DEFENDER, 60));
+        }
+
+        List<Team> teams = teamBuilder.buildTeamsWithConcurrency(participants);
+
+        assertTrue(teams.isEmpty(), "Single-role pool cannot satisfy minRoles = 3");
+    }
+
     // ==================== INTERRUPT HANDLING TESTS ====================
 
     @Test
@@ -0,0 +1,145 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationResult;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.InputStream;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deadline-bounded formation: partial results, cancellation and refinement.
+ */
+class TeamBuilderDeadlineTest {
+
+    private static final PersonalityType[] TYPES = {
+            PersonalityType.LEADER, PersonalityType.THINKER, PersonalityType.BALANCED
+    };
+
+    private TeamBuilder newBuilder(int maxSameGame) {
+        TeamBuilder builder = new TeamBuilder(3, maxSameGame, 1);
+        builder.setReporter(ProgressReporter.quiet());
+        builder.setFlexiblePhaseDecider(TeamBuilder.FlexiblePhaseDecider.NEVER);
+        return builder;
+    }
+
+    private List<Participant> participants(int count, boolean sameSport) {
+        String[] sports = {"Football", "Chess", "Tennis", "Rugby", "Golf", "Polo"};
+        Role[] roles = Role.values();
+        List<Participant> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new Participant("P" + i, "Player" + i, "p" + i + "@example.com",
+                    sameSport ? "Chess" : sports[i % sports.length], roles[i % roles.length],
+                    5, 60, TYPES[i % TYPES.length]));
+        }
+        return list;
+    }
+
+    // Every participant is either in exactly one team or reported unplaced
+    private void assertAccountedFor(List<Participant> input, FormationResult result) {
+        Set<String> seen = new HashSet<>();
+        for (Team team : result.getTeams()) {
+            team.forEachMember(p -> assertTrue(seen.add(p.getId()), "Placed twice: " + p.getId()));
+        }
+        for (Participant p : result.getUnplaced()) {
+            assertTrue(seen.add(p.getId()), "Placed and unplaced: " + p.getId());
+        }
+        assertEquals(input.size(), seen.size());
+    }
+
+    @Test
+    @Timeout(30)
+    void generousBudgetCompletesAndPlacesEveryone() throws Exception {
+        List<Participant> input = participants(30, false);
+
+        FormationResult result = newBuilder(2).buildTeams(input, 20_000);
+
+        assertTrue(result.isComplete());
+        assertEquals(10, result.getTeams().size());
+        assertTrue(result.getUnplaced().isEmpty());
+        assertAccountedFor(input, result);
+    }
+
+    @Test
+    @Timeout(30)
+    void zeroBudgetReturnsEveryoneUnplacedAndRefineFinishes() throws Exception {
+        List<Participant> input = participants(30, false);
+        TeamBuilder builder = newBuilder(2);
+
+        FormationResult partial = builder.buildTeams(input, 0);
+
+        assertFalse(partial.isComplete());
+        assertTrue(partial.getTeams().isEmpty());
+        assertEquals(30, partial.getUnplaced().size());
+
+        FormationResult refined = builder.refine(partial, 20_000);
+
+        assertTrue(refined.isComplete());
+        assertEquals(10, refined.getTeams().size());
+        assertAccountedFor(input, refined);
+        assertSame(refined, builder.refine(refined, 1_000), "A complete result needs no refinement");
+    }
+
+    @Test
+    @Timeout(30)
+    void cancelStopsFormationAndRefineResumesTheSamePhase() throws Exception {
+        // All one sport with maxSameGame 1: no strict team is possible, only flexible ones
+        List<Participant> input = participants(6, true);
+        TeamBuilder builder = newBuilder(1);
+        builder.setFlexiblePhaseDecider(remaining -> {
+            builder.cancel();
+            return true;
+        });
+
+        FormationResult cancelled = builder.buildTeams(input, 20_000);
+
+        assertFalse(cancelled.isComplete());
+        assertTrue(cancelled.getTeams().isEmpty());
+        assertAccountedFor(input, cancelled);
+
+        FormationResult refined = builder.refine(cancelled, 20_000);
+
+        assertTrue(refined.isComplete());
+        assertEquals(2, refined.getTeams().size());
+        assertTrue(refined.getUnplaced().isEmpty());
+        assertAccountedFor(input, refined);
+    }
+
+    @Test
+    void refineRejectsResultFromAnotherBuilder() throws Exception {
+        FormationResult result = newBuilder(2).buildTeams(participants(6, false), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> newBuilder(2).refine(result, 1_000));
+        assertThrows(IllegalArgumentException.class, () -> newBuilder(2).buildTeams(participants(6, false), -1));
+    }
+
+    @Test
+    @Timeout(30)
+    void budgetWithoutDeciderSkipsFlexibleTeamsInsteadOfAsking() throws Exception {
+        List<Participant> input = participants(6, true);
+        TeamBuilder builder = new TeamBuilder(3, 1, 1);
+        builder.setReporter(ProgressReporter.quiet());
+        InputStream stdin = System.in;
+        System.setIn(new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Budgeted formation must not wait for console input");
+            }
+        });
+        try {
+            FormationResult result = builder.buildTeams(input, 20_000);
+
+            assertTrue(result.isComplete());
+            assertTrue(result.getTeams().isEmpty());
+            assertAccountedFor(input, result);
+        } finally {
+            System.setIn(stdin);
+        }
+    }
+}
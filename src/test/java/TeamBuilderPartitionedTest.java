@@ -0,0 +1,57 @@
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationResult;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.DatasetGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PARTITIONED formation mode: shards formed by fork-join, leftovers merged afterwards.
+ */
+class TeamBuilderPartitionedTest {
+
+    private ParticipantTable table;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        table = new DatasetGenerator(DatasetGenerator.Profile.REALISTIC).setSeed(7).toTable(2000);
+    }
+
+    private TeamBuilder newBuilder(TeamBuilder.FormationMode mode) {
+        return FormationTestSupport.newBuilder(mode, 4, TeamBuilder.FlexiblePhaseDecider.NEVER);
+    }
+
+    @Test
+    @Timeout(60)
+    void partitionedTeamsKeepConstraintsAndPlaceEveryoneOnce() throws Exception {
+        TeamBuilder builder = newBuilder(TeamBuilder.FormationMode.PARTITIONED);
+
+        FormationResult result = builder.buildTeams(table, 50_000);
+
+        assertTrue(result.isComplete());
+        for (Team team : result.getTeams()) {
+            assertTrue(team.getCurrentSize() >= 4);
+            assertEquals(1, team.countPersonalityType(PersonalityType.LEADER));
+        }
+        FormationTestSupport.assertPlacedOnce(table, result);
+    }
+
+    @Test
+    @Timeout(60)
+    void partitionedFormsAboutAsManyTeamsAsSharedPools() throws Exception {
+        int shared = newBuilder(TeamBuilder.FormationMode.SHARED_POOLS).buildTeamsWithConcurrency(table).size();
+        int partitioned = newBuilder(TeamBuilder.FormationMode.PARTITIONED).buildTeamsWithConcurrency(table).size();
+
+        assertTrue(partitioned >= shared * 0.95, "partitioned " + partitioned + " vs shared " + shared);
+    }
+
+    @Test
+    void formationModeCannotBeNull() {
+        assertThrows(IllegalArgumentException.class, () -> new TeamBuilder(4).setFormationMode(null));
+    }
+}
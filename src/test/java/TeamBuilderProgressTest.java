@@ -0,0 +1,108 @@
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationProgress;
+import com.seniru.teambuilder.service.FormationResult;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Progress listener and partial team access during formation.
+ */
+class TeamBuilderProgressTest {
+
+    private static final PersonalityType[] TYPES = {
+            PersonalityType.LEADER, PersonalityType.THINKER, PersonalityType.BALANCED
+    };
+
+    private TeamBuilder builder;
+    private List<Participant> participants;
+
+    @BeforeEach
+    void setUp() {
+        builder = new TeamBuilder(3, 2, 1);
+        builder.setReporter(ProgressReporter.quiet());
+        builder.setFlexiblePhaseDecider(TeamBuilder.FlexiblePhaseDecider.NEVER);
+
+        String[] sports = {"Football", "Chess", "Tennis", "Rugby", "Golf", "Polo"};
+        participants = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            participants.add(new Participant("P" + i, "Player" + i, "p" + i + "@example.com",
+                    sports[i % sports.length], Role.values()[i % Role.values().length],
+                    5, 60, TYPES[i % TYPES.length]));
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void listenerSeesPhasesAndEveryTeam() throws Exception {
+        List<FormationProgress> events = new CopyOnWriteArrayList<>();
+        builder.setFormationListener(events::add);
+
+        List<Team> teams = builder.buildTeamsWithConcurrency(participants);
+
+        assertEquals(TeamBuilder.Phase.STRICT, events.get(0).getPhase());
+        FormationProgress last = events.get(events.size() - 1);
+        assertEquals(TeamBuilder.Phase.DONE, last.getPhase());
+        assertEquals(teams.size(), last.getTeamsFormed());
+        assertEquals(teams.stream().mapToInt(Team::getCurrentSize).sum(), last.getParticipantsPlaced());
+        assertEquals(31, last.getParticipantsTotal());
+        // one event per team plus the phase/distribution/done events
+        assertTrue(events.size() >= teams.size() + 2);
+    }
+
+    @Test
+    @Timeout(30)
+    void listenerCanStopEarlyAndPartialTeamsMatchResult() throws Exception {
+        builder.setFormationListener(progress -> {
+            if (progress.getTeamsFormed() >= 2) builder.cancel();
+        });
+
+        FormationResult result = builder.buildTeams(participants, 20_000);
+
+        assertFalse(result.isComplete());
+        assertTrue(result.getTeams().size() >= 2);
+        List<Team> partial = builder.getPartialTeams();
+        assertEquals(result.getTeams().size(), partial.size());
+        for (Team team : partial) {
+            assertEquals(3, team.getCurrentSize());
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    void failingListenerDoesNotAbortFormation() throws Exception {
+        builder.setFormationListener(progress -> {
+            throw new IllegalStateException("listener bug");
+        });
+
+        List<Team> teams = builder.buildTeamsWithConcurrency(participants);
+
+        assertEquals(10, teams.size());
+    }
+
+    @Test
+    @Timeout(30)
+    void partialTeamsAfterCompletionAreTheFinalTeams() throws Exception {
+        FormationResult result = builder.buildTeams(participants, 20_000);
+
+        assertTrue(result.isComplete());
+        List<Team> partial = builder.getPartialTeams();
+        assertEquals(result.getTeams().size(), partial.size());
+        assertThrows(UnsupportedOperationException.class, () -> partial.remove(0));
+    }
+
+    @Test
+    void partialTeamsEmptyBeforeAnyFormation() {
+        assertTrue(builder.getPartialTeams().isEmpty());
+    }
+}
@@ -0,0 +1,55 @@
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationResult;
+import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.DatasetGenerator;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * STRIPED_POOLS end to end; stealing and ordering inside the pools are covered by
+ * StripedPersonalityPoolsTest.
+ */
+class TeamBuilderStripedPoolsTest {
+
+    @RepeatedTest(3)
+    @Timeout(60)
+    void stripedTeamsKeepConstraintsAndPlaceEveryoneOnce() throws Exception {
+        ParticipantTable table = new DatasetGenerator(DatasetGenerator.Profile.REALISTIC).setSeed(11).toTable(2000);
+
+        FormationResult result = FormationTestSupport.newBuilder(TeamBuilder.FormationMode.STRIPED_POOLS, 4,
+                TeamBuilder.FlexiblePhaseDecider.ALWAYS).buildTeams(table, 50_000);
+
+        assertTrue(result.isComplete());
+        for (Team team : result.getTeams()) {
+            assertTrue(team.getCurrentSize() >= 4);
+            assertTrue(team.countPersonalityType(PersonalityType.LEADER) >= 1);
+        }
+        FormationTestSupport.assertPlacedOnce(table, result);
+    }
+
+    @Test
+    @Timeout(60)
+    void moreStripesThanWorkersStillReachesEveryStripe() throws Exception {
+        ParticipantTable table = new ParticipantTable();
+        PersonalityType[] types = {PersonalityType.LEADER, PersonalityType.THINKER,
+                PersonalityType.BALANCED, PersonalityType.BALANCED};
+        for (int i = 0; i < 40; i++) {
+            table.add("P" + i, "Player" + i, "p" + i + "@example.com", "Sport" + (i % 10),
+                    Role.values()[i % Role.values().length], 5, 60, types[i % types.length]);
+        }
+        FormationResult result = FormationTestSupport.newBuilder(TeamBuilder.FormationMode.STRIPED_POOLS, 8,
+                TeamBuilder.FlexiblePhaseDecider.NEVER).buildTeams(table, 50_000);
+
+        // Ten teams are possible and the shared phase runs five workers over eight stripes; the
+        // rows dealt to the three stripes without a worker are only reachable by stealing
+        assertTrue(result.isComplete());
+        FormationTestSupport.assertPlacedOnce(table, result);
+        assertTrue(result.getTeams().size() >= 9, "teams " + result.getTeams().size());
+    }
+}
@@ -2,13 +2,18 @@
 
 
 import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.ParticipantTable;
 import com.seniru.teambuilder.model.PersonalityType;
 import com.seniru.teambuilder.model.Role;
 import com.seniru.teambuilder.model.Team;
+import com.seniru.teambuilder.service.FormationResult;
 import com.seniru.teambuilder.service.TeamBuilder;
+import com.seniru.teambuilder.util.ProgressReporter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 
@@ -78,9 +83,11 @@ class TeamBuilderTest {
     @Test
     void testPreprocessParticipants_groupsByPersonality() throws Exception {
         // Use reflection to test private method (optional)
-        var method = TeamBuilder.class.getDeclaredMethod("preprocessParticipants", List.class);
+        var method = TeamBuilder.class.getDeclaredMethod("preprocessRows", ParticipantTable.class);
         method.setAccessible(true);
-        List<Participant> preprocessed = (List<Participant>) method.invoke(builder, participants);
+        ParticipantTable table = ParticipantTable.of(participants);
+        int[] rows = (int[]) method.invoke(builder, table);
+        List<Participant> preprocessed = Arrays.stream(rows).mapToObj(table::participant).toList();
 
         assertNotNull(preprocessed);
         long leaders = preprocessed.stream().filter(p -> p.getPersonalityType() == PersonalityType.LEADER).count();
@@ -91,4 +98,103 @@ class TeamBuilderTest {
         assertEquals(2, thinkers);
         assertEquals(2, balanced);
     }
+
+    @Test
+    void testBuildTeamsWithConcurrency_placesAnalysts() throws ExecutionException, InterruptedException {
+        // answer "no" should the flexible phase be offered
+        System.setIn(new ByteArrayInputStream("no\n".getBytes()));
+        TeamBuilder fourBuilder = new TeamBuilder(4, 2, 1);
+
+        List<Participant> withAnalysts = Arrays.asList(
+                new Participant("P1","Alice", "alice@example.com", "Football", Role.COORDINATOR, 7, 95, PersonalityType.LEADER),
+                new Participant("P2","Bob", "bob@example.com", "Tennis", Role.DEFENDER, 6, 60, PersonalityType.THINKER),
+                new Participant("P3","Cara", "cara@example.com", "Chess", Role.STRATEGIST, 5, 40, PersonalityType.ANALYST),
+                new Participant("P4","Dan", "dan@example.com", "Rugby", Role.ATTACKER, 8, 30, PersonalityType.ANALYST),
+                new Participant("P5","Eli", "eli@example.com", "Hockey", Role.SUPPORTER, 7, 92, PersonalityType.LEADER),
+                new Participant("P6","Fay", "fay@example.com", "Golf", Role.DEFENDER, 6, 55, PersonalityType.THINKER),
+                new Participant("P7","Gus", "gus@example.com", "Polo", Role.STRATEGIST, 5, 35, PersonalityType.ANALYST),
+                new Participant("P8","Hal", "hal@example.com", "Darts", Role.ATTACKER, 4, 25, PersonalityType.ANALYST)
+        );
+
+        List<Team> teams = fourBuilder.buildTeamsWithConcurrency(withAnalysts);
+
+        assertEquals(2, teams.size());
+        assertEquals(8, teams.stream().mapToInt(Team::getCurrentSize).sum(), "Analysts should be placed too");
+        for (Team team : teams) {
+            assertEquals(1, team.countPersonalityType(PersonalityType.LEADER));
+            assertTrue(team.countPersonalityType(PersonalityType.ANALYST) <= 2);
+        }
+    }
+
+    @Test
+    void testSetPersonalityQuota_rejectsMinimumsAboveTeamSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.setPersonalityQuota(PersonalityType.BALANCED, 2, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.setPersonalityQuota(PersonalityType.ANALYST, 2, 1));
+    }
+
+    @Test
+    void testBuildTeamsWithConcurrency_placesDuplicateIdOnce() throws ExecutionException, InterruptedException {
+        System.setIn(new ByteArrayInputStream("no\n".getBytes()));
+        List<Participant> withDuplicate = new ArrayList<>(participants);
+        // same participant registered twice, loaded as a separate object
+        withDuplicate.add(new Participant("P1", "Alice", "alice@example.com", "Football",
+                Role.STRATEGIST, 7, 95, PersonalityType.LEADER));
+
+        List<Team> teams = builder.buildTeamsWithConcurrency(withDuplicate);
+
+        Set<String> seen = new HashSet<>();
+        for (Team team : teams) {
+            team.forEachMember(p -> assertTrue(seen.add(p.getId()), "Placed twice: " + p.getId()));
+        }
+    }
+
+    @Test
+    void testBuildTeams_reportsDuplicateIdRowAsUnplaced() throws InterruptedException {
+        builder.setFlexiblePhaseDecider(TeamBuilder.FlexiblePhaseDecider.NEVER);
+        List<Participant> withDuplicate = new ArrayList<>(participants);
+        Participant repeat = new Participant("P1", "Alice", "alice@example.com", "Football",
+                Role.STRATEGIST, 7, 95, PersonalityType.LEADER);
+        withDuplicate.add(repeat);
+
+        FormationResult result = builder.buildTeams(withDuplicate, 10_000);
+
+        assertTrue(result.getUnplaced().stream().anyMatch(p -> p == repeat),
+                "The skipped repeat row should be reported, not dropped");
+    }
+
+    private static List<Participant> oneSport() {
+        // One sport with maxSameGame 1: no strict team is possible, so the relaxed question comes up
+        List<Participant> oneSport = new ArrayList<>();
+        PersonalityType[] types = {PersonalityType.LEADER, PersonalityType.THINKER, PersonalityType.BALANCED};
+        for (int i = 0; i < 6; i++) {
+            oneSport.add(new Participant("P" + i, "Player" + i, "p" + i + "@example.com", "Chess",
+                    Role.values()[i % Role.values().length], 5, 60, types[i % types.length]));
+        }
+        return oneSport;
+    }
+
+    @Test
+    void testConsoleQuestion_readsOneInput() throws ExecutionException, InterruptedException {
+        TeamBuilder asking = new TeamBuilder(3, 1, 1);
+        asking.setConsoleInput(new Scanner("no\nyes\n"));
+
+        assertTrue(asking.buildTeamsWithConcurrency(oneSport()).isEmpty());
+        assertEquals(2, asking.buildTeamsWithConcurrency(oneSport()).size());
+    }
+
+    @Test
+    void testConsoleQuestion_notAskedWhenReporterWouldHideIt() throws ExecutionException, InterruptedException {
+        TeamBuilder quiet = new TeamBuilder(3, 1, 1);
+        quiet.setReporter(ProgressReporter.quiet());
+        quiet.setConsoleInput(new Scanner(new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("A hidden question must not wait for input");
+            }
+        }));
+
+        assertTrue(quiet.buildTeamsWithConcurrency(oneSport()).isEmpty());
+    }
 }
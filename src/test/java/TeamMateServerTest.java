@@ -0,0 +1,122 @@
+import com.seniru.teambuilder.app.AppController;
+import com.seniru.teambuilder.app.TeamMateServer;
+import com.seniru.teambuilder.service.CSVHandler;
+import com.seniru.teambuilder.util.ProgressReporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamMateServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TeamMateServer server;
+    private HttpClient client;
+    private String base;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CSVHandler csvHandler = new CSVHandler(tempDir.resolve("participants.csv").toString());
+        csvHandler.setReporter(ProgressReporter.quiet());
+        AppController controller = new AppController(csvHandler, tempDir.resolve("formedTeams.csv").toString());
+        server = new TeamMateServer(controller, 0);
+        server.start();
+        client = HttpClient.newHttpClient();
+        base = "http://localhost:" + server.getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void testServer_BindsToLoopbackByDefault() {
+        assertTrue(server.getAddress().getAddress().isLoopbackAddress());
+    }
+
+    private HttpRequest register(String name, String email, String role, String responses) {
+        String body = "name=" + name + "&email=" + email + "&sport=Chess&role=" + role +
+                "&skill=6&responses=" + responses;
+        return HttpRequest.newBuilder(URI.create(base + "/participants"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @Test
+    void testConcurrentRegistrations_AllStored() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<CompletableFuture<HttpResponse<String>>> calls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            calls.add(client.sendAsync(register("User" + i, "u" + i + "." + run + "%40uni.edu", "Attacker", "4,4,4,4,4"),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> call : calls) {
+            assertEquals(201, call.join().statusCode());
+        }
+
+        HttpResponse<String> list = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/participants")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, list.statusCode());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(list.body().contains("u" + i + "." + run + "@uni.edu"));
+        }
+    }
+
+    @Test
+    void testRegistration_RejectsInvalidAndDuplicateEmail() throws Exception {
+        String email = "dup." + UUID.randomUUID().toString().substring(0, 8) + "%40uni.edu";
+        assertEquals(201, client.send(register("Ann", email, "Defender", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(409, client.send(register("Ann", email, "Defender", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(400, client.send(register("Bob", "bob%40uni.edu", "Goalie", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(400, client.send(register("Cid", "cid%40uni.edu", "Defender", "3,3,9"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    void testRegistration_RejectsCsvBreakingName() throws Exception {
+        assertEquals(400, client.send(register("a%2Cb", "comma%40uni.edu", "Defender", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(400, client.send(register("Eve%0AP999%2CMal%2Cmal%40uni.edu", "eve%40uni.edu", "Defender", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        assertFalse(Files.exists(tempDir.resolve("participants.csv")), "Nothing may reach the participants CSV");
+    }
+
+    @Test
+    void testFormTeams_ReturnsTeamsAsJson() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        client.send(register("Lead", "lead." + run + "%40uni.edu", "Attacker", "5,5,5,5,5"),
+                HttpResponse.BodyHandlers.ofString());
+        client.send(register("Think", "think." + run + "%40uni.edu", "Defender", "3,3,3,3,3"),
+                HttpResponse.BodyHandlers.ofString());
+
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/teams?teamSize=2&minRoles=2"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("[{\"id\":\"Team-"), response.body());
+    }
+}
@@ -0,0 +1,87 @@
+
+
+import com.seniru.teambuilder.model.Participant;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import com.seniru.teambuilder.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamTest {
+
+    private Participant participant(String id, Role role, PersonalityType type) {
+        return new Participant(id, "Name_" + id, id + "@test.com", "Football", role, 5, 60, type);
+    }
+
+    @Test
+    void testGetMembers_IsReadOnlyViewWithoutCopying() {
+        Team team = new Team("Team-1", 3);
+        team.addMember(participant("P1", Role.ATTACKER, PersonalityType.LEADER));
+
+        List<Participant> members = team.getMembers();
+        assertSame(members, team.getMembers(), "Repeated reads should not allocate new lists");
+        assertThrows(UnsupportedOperationException.class,
+                () -> members.add(participant("P2", Role.DEFENDER, PersonalityType.THINKER)));
+    }
+
+    @Test
+    void testForEachMember_VisitsMembersInOrder() {
+        Team team = new Team("Team-1", 3);
+        team.addMember(participant("P1", Role.ATTACKER, PersonalityType.LEADER));
+        team.addMember(participant("P2", Role.DEFENDER, PersonalityType.THINKER));
+
+        List<String> ids = new ArrayList<>();
+        team.forEachMember(p -> ids.add(p.getId()));
+
+        assertEquals(List.of("P1", "P2"), ids);
+    }
+
+    @Test
+    void testFreeze_RejectsFurtherMembers() {
+        Team team = new Team("Team-1", 3);
+        team.addMember(participant("P1", Role.ATTACKER, PersonalityType.LEADER));
+        team.freeze();
+
+        assertTrue(team.isFrozen());
+        assertThrows(IllegalStateException.class,
+                () -> team.addMember(participant("P2", Role.DEFENDER, PersonalityType.THINKER)));
+        assertEquals(1, team.getCurrentSize());
+    }
+
+    @Test
+    void testRoleMaskAndTypeCounts() {
+        Team team = new Team("Team-1", 4);
+        team.addMember(participant("P1", Role.ATTACKER, PersonalityType.LEADER));
+        team.addMember(participant("P2", Role.DEFENDER, PersonalityType.THINKER));
+        team.addMember(participant("P3", Role.ATTACKER, PersonalityType.THINKER));
+
+        assertEquals(2, team.getRoleCount());
+        assertTrue(team.hasRole(Role.DEFENDER));
+        assertFalse(team.hasRole(Role.SUPPORTER));
+        assertEquals(2, team.countPersonalityType(PersonalityType.THINKER));
+    }
+
+    @Test
+    void testAddMember_RejectsSameIdLoadedTwice() {
+        Team team = new Team("Team-1", 3);
+        assertTrue(team.addMember(participant("P1", Role.ATTACKER, PersonalityType.LEADER)));
+
+        // a separate object with the same id is the same participant
+        assertFalse(team.addMember(participant("P1", Role.DEFENDER, PersonalityType.LEADER)));
+        assertEquals(1, team.getCurrentSize());
+        assertEquals(1, team.countPersonalityType(PersonalityType.LEADER));
+    }
+
+    @Test
+    void testParticipantsWithoutId_AreDistinct() {
+        Participant a = new Participant();
+        Participant b = new Participant();
+
+        assertNotEquals(a, b);
+        assertEquals(a, a);
+    }
+}
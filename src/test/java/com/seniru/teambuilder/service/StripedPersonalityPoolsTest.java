@@ -0,0 +1,116 @@
+package com.seniru.teambuilder.service;
+
+import com.seniru.teambuilder.model.ParticipantTable;
+import com.seniru.teambuilder.model.PersonalityType;
+import com.seniru.teambuilder.model.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stealing and ordering inside StripedPersonalityPools. Each worker is a single-thread executor,
+ * so its stripe (taken on its first poll) stays the same across calls.
+ */
+class StripedPersonalityPoolsTest {
+
+    private static final PersonalityType TYPE = PersonalityType.THINKER;
+    private static final int ALL = ParticipantPools.ALL_LANES;
+
+    private final List<ExecutorService> workers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        workers.forEach(ExecutorService::shutdownNow);
+    }
+
+    private static ParticipantTable table(int rows) {
+        ParticipantTable table = new ParticipantTable(rows);
+        for (int i = 0; i < rows; i++) {
+            table.add("P" + i, "Player" + i, "p" + i + "@example.com", "Chess", Role.DEFENDER, 5, 60, TYPE);
+        }
+        return table;
+    }
+
+    private ExecutorService worker() {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        workers.add(worker);
+        return worker;
+    }
+
+    private static <T> T on(ExecutorService worker, Callable<T> task) throws Exception {
+        return worker.submit(task).get();
+    }
+
+    @Test
+    @Timeout(10)
+    void dryStripeStealsNewestHalfFromAnother() throws Exception {
+        StripedPersonalityPools pools = new StripedPersonalityPools(table(4), 2);
+        ExecutorService a = worker();
+        ExecutorService b = worker();
+
+        // a takes stripe 0 and fills it; b's stripe 1 stays empty
+        on(a, () -> {
+            assertEquals(ParticipantPools.EMPTY, pools.poll(TYPE, ALL));
+            for (int row = 0; row < 4; row++) pools.offer(row);
+            return null;
+        });
+
+        // b steals rows 3 and 2, keeps 2 on its own stripe and gets 3
+        assertEquals(3, on(b, () -> pools.poll(TYPE, ALL)));
+        assertEquals(3, pools.totalSize());
+        assertEquals(0, on(a, () -> pools.poll(TYPE, ALL)));
+        assertEquals(2, on(b, () -> pools.poll(TYPE, ALL)));
+        assertEquals(1, on(a, () -> pools.poll(TYPE, ALL)));
+        assertEquals(0, pools.totalSize());
+    }
+
+    @Test
+    @Timeout(10)
+    void rowOfferedBackComesAfterOlderRows() throws Exception {
+        StripedPersonalityPools pools = new StripedPersonalityPools(table(3), 2);
+        ExecutorService a = worker();
+
+        List<Integer> polled = on(a, () -> {
+            pools.poll(TYPE, ALL);   // take stripe 0
+            for (int row = 0; row < 3; row++) pools.offer(row);
+            int rejected = pools.poll(TYPE, ALL);
+            pools.offer(rejected);   // failed the constraint check
+            List<Integer> rows = new ArrayList<>(List.of(rejected));
+            for (int i = 0; i < 3; i++) rows.add(pools.poll(TYPE, ALL));
+            return rows;
+        });
+
+        assertEquals(List.of(0, 1, 2, 0), polled);
+    }
+
+    @Test
+    @Timeout(10)
+    void singleWorkerDrainsMoreStripesThanWorkers() throws Exception {
+        StripedPersonalityPools pools = new StripedPersonalityPools(table(8), 4);
+        // offered from a thread without a stripe: dealt round-robin over all four stripes
+        for (int row = 0; row < 8; row++) pools.offer(row);
+        ExecutorService only = worker();
+
+        Set<Integer> rows = on(only, () -> {
+            Set<Integer> taken = new HashSet<>();
+            int row;
+            while ((row = pools.poll(TYPE, ALL, 10)) != ParticipantPools.EMPTY) {
+                assertTrue(taken.add(row), "Row handed out twice: " + row);
+            }
+            return taken;
+        });
+
+        assertEquals(Set.of(0, 1, 2, 3, 4, 5, 6, 7), rows);
+        assertEquals(0, pools.totalSize());
+    }
+}